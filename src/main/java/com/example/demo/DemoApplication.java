@@ -2,12 +2,14 @@ package com.example.demo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Classe principale de l’application Spring Boot.
- * Lance le démarrage de l’application.
+ * Lance le démarrage de l’application et active les tâches planifiées.
  */
 @SpringBootApplication
+@EnableScheduling
 public class DemoApplication {
 
 	/**
@@ -1,5 +1,6 @@
 package com.example.demo;
 
+import com.example.demo.services.ConcurrencyLimitFilter;
 import com.example.demo.services.JwtService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -17,7 +18,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  * <p>
  * Définit la gestion des sessions en mode stateless avec JWT,
  * les règles d'accès aux endpoints selon les rôles,
- * et intègre le filtre JWT personnalisé.
+ * et intègre le filtre JWT personnalisé précédé du limiteur de concurrence.
  * </p>
  */
 @Configuration
@@ -26,6 +27,9 @@ public class SecurityConfig {
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
     /**
      * Bean PasswordEncoder pour encoder les mots de passe utilisateurs
      * avec l'algorithme BCrypt.
@@ -73,7 +77,10 @@ public class SecurityConfig {
                 )
 
                 // Ajoute le filtre JWT avant le filtre d'authentification standard UsernamePasswordAuthenticationFilter
-                .addFilterBefore(jwtService, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtService, UsernamePasswordAuthenticationFilter.class)
+
+                // Limite la concurrence par classe de route avant toute lecture en base du filtre JWT
+                .addFilterBefore(concurrencyLimitFilter, JwtService.class);
 
         return http.build();
     }
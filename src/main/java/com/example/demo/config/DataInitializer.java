@@ -1,11 +1,9 @@
 package com.example.demo.config;
 
 import com.example.demo.models.Role;
-import com.example.demo.models.UserApp;
-import com.example.demo.repositories.UserAppRepository;
+import com.example.demo.services.UserAppService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
  * Composant Spring qui initialise les données de l'application au démarrage.
@@ -16,19 +14,15 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Component
 public class DataInitializer implements CommandLineRunner {
 
-    private final UserAppRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserAppService userAppService;
 
     /**
      * Constructeur injectant les dépendances nécessaires.
      *
-     * @param userRepository le repository JPA pour accéder aux utilisateurs
-     * @param passwordEncoder le service d’encodage de mots de passe
+     * @param userAppService le service d'enregistrement des utilisateurs
      */
-    public DataInitializer(UserAppRepository userRepository,
-                           PasswordEncoder passwordEncoder) {
-        this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+    public DataInitializer(UserAppService userAppService) {
+        this.userAppService = userAppService;
     }
 
     /**
@@ -40,7 +34,7 @@ public class DataInitializer implements CommandLineRunner {
      */
     @Override
     public void run(String... args) throws Exception {
-        userRepository.save(new UserApp("admin", passwordEncoder.encode("admin"), Role.ADMIN));
+        userAppService.registerUser("admin", "admin", Role.ADMIN);
         System.out.println("Données initiales insérées dans user_app");
     }
 
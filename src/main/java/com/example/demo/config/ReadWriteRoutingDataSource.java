@@ -0,0 +1,49 @@
+package com.example.demo.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Source de données routant les connexions vers la primaire ou la réplique.
+ * <p>
+ * Les transactions {@code @Transactional(readOnly = true)} sont servies par la réplique,
+ * sauf si {@link ReplicaRoutingState} impose la primaire ; tout le reste va sur la primaire.
+ * Doit être enveloppée dans un {@code LazyConnectionDataSourceProxy} pour que l'attribut
+ * read-only de la transaction soit connu au moment où la connexion est réellement obtenue.
+ * </p>
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * Clé de routage vers la base primaire.
+     */
+    public static final String PRIMARY = "primary";
+
+    /**
+     * Clé de routage vers la réplique en lecture seule.
+     */
+    public static final String REPLICA = "replica";
+
+    private final ReplicaRoutingState routingState;
+
+    /**
+     * Constructeur avec l'état de routage partagé.
+     *
+     * @param routingState état indiquant si la réplique peut servir la lecture courante
+     */
+    public ReadWriteRoutingDataSource(ReplicaRoutingState routingState) {
+        this.routingState = routingState;
+    }
+
+    /**
+     * Détermine la source de données à utiliser pour la connexion courante.
+     *
+     * @return {@link #REPLICA} pour une transaction en lecture seule autorisée sur la réplique,
+     * {@link #PRIMARY} sinon
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readOnly && routingState.canReadFromReplica() ? REPLICA : PRIMARY;
+    }
+}
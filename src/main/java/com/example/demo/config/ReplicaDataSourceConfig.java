@@ -0,0 +1,79 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Configuration des sources de données pour le profil {@code replica}.
+ * <p>
+ * Déclare une base primaire (propriétés {@code spring.datasource.*}), une réplique en lecture
+ * (propriétés {@code replica.datasource.*}) et la source de données routée utilisée par JPA.
+ * Sans ce profil, l'application garde la source de données unique auto-configurée.
+ * </p>
+ */
+@Configuration
+@Profile("replica")
+public class ReplicaDataSourceConfig {
+
+    /**
+     * Source de données primaire recevant toutes les écritures.
+     *
+     * @param url URL JDBC de la primaire
+     * @param username utilisateur de connexion
+     * @param password mot de passe de connexion
+     * @return la source de données primaire
+     */
+    @Bean
+    public DataSource primaryDataSource(@Value("${spring.datasource.url}") String url,
+                                        @Value("${spring.datasource.username}") String username,
+                                        @Value("${spring.datasource.password}") String password) {
+        return DataSourceBuilder.create().url(url).username(username).password(password).build();
+    }
+
+    /**
+     * Source de données de la réplique servant les lectures.
+     *
+     * @param url URL JDBC de la réplique
+     * @param username utilisateur de connexion
+     * @param password mot de passe de connexion
+     * @return la source de données de la réplique
+     */
+    @Bean
+    public DataSource replicaDataSource(@Value("${replica.datasource.url}") String url,
+                                        @Value("${replica.datasource.username}") String username,
+                                        @Value("${replica.datasource.password}") String password) {
+        return DataSourceBuilder.create().url(url).username(username).password(password).build();
+    }
+
+    /**
+     * Source de données principale de l'application, routant selon le caractère
+     * read-only de la transaction courante.
+     *
+     * @param primaryDataSource la base primaire
+     * @param replicaDataSource la réplique
+     * @param routingState état de routage partagé (fenêtres de lecture sur la primaire)
+     * @return la source de données routée, enveloppée dans un proxy à connexion paresseuse
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaRoutingState routingState) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(routingState);
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.PRIMARY, primaryDataSource,
+                ReadWriteRoutingDataSource.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.config;
+
+import com.example.demo.models.UserApp;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * État partagé du routage lecture/écriture entre base primaire et réplique.
+ * <p>
+ * Mémorise les utilisateurs ayant écrit récemment afin que leurs lectures restent
+ * sur la base primaire pendant la fenêtre de réplication (lecture de ses propres écritures),
+ * et indique si la réplique est prête à servir des lectures.
+ * Sans le profil {@code replica}, cet état n'est consulté par aucune source de données.
+ * </p>
+ */
+@Component
+public class ReplicaRoutingState {
+
+    /**
+     * Au-delà de ce nombre d'entrées, les fenêtres expirées sont purgées.
+     */
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    @Value("${replica.sticky-window-ms:5000}")
+    private long stickyWindowMs;
+
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    private volatile boolean replicaReady = false;
+
+    /**
+     * Enregistre une écriture faite par un utilisateur : ses lectures iront
+     * sur la base primaire jusqu'à la fin de la fenêtre de réplication.
+     *
+     * @param username le nom de l'utilisateur auteur de l'écriture
+     */
+    public void recordWrite(String username) {
+        if (username == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (stickyUntil.size() > PURGE_THRESHOLD) {
+            stickyUntil.values().removeIf(until -> until < now);
+        }
+        stickyUntil.put(username, now + stickyWindowMs);
+    }
+
+    /**
+     * Signale que la réplique a reçu sa première copie et peut servir des lectures.
+     */
+    public void markReplicaReady() {
+        replicaReady = true;
+    }
+
+    /**
+     * Indique si la lecture en cours peut être servie par la réplique,
+     * c'est-à-dire si la réplique est prête et que l'utilisateur courant n'a pas écrit récemment.
+     *
+     * @return true si la réplique peut être utilisée, false pour rester sur la primaire
+     */
+    public boolean canReadFromReplica() {
+        return replicaReady && !isStickyForCurrentUser();
+    }
+
+    /**
+     * Indique si l'utilisateur courant a écrit pendant la fenêtre de réplication
+     * et doit donc lire ses propres écritures sur la base primaire.
+     *
+     * @return true si l'utilisateur courant a écrit récemment, false sinon ou s'il est anonyme
+     */
+    public boolean isStickyForCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return false;
+        }
+        // Le principal posé par JwtService est l'entité UserApp, dont getName() renverrait le toString()
+        String username = authentication.getPrincipal() instanceof UserApp user
+                ? user.getUsername()
+                : authentication.getName();
+        Long until = stickyUntil.get(username);
+        return until != null && until >= System.currentTimeMillis();
+    }
+}
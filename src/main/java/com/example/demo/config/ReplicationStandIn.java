@@ -0,0 +1,160 @@
+package com.example.demo.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Substitut de réplication pour le profil {@code replica} en local.
+ * <p>
+ * Copie périodiquement le schéma puis le contenu des tables de la base H2 primaire vers
+ * la base H2 réplique. Chaque copie remplace toutes les lignes dans une seule transaction,
+ * ce qui simule une réplique cohérente avec un retard égal à l'intervalle de synchronisation.
+ * Ne convient qu'aux petits jeux de données de développement et de test.
+ * </p>
+ */
+@Component
+@Profile("replica")
+public class ReplicationStandIn {
+
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+    private final ReplicaRoutingState routingState;
+
+    @Value("${replica.sync-interval-ms:500}")
+    private long syncIntervalMs;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replication-stand-in");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private boolean schemaCopied = false;
+
+    /**
+     * Constructeur injectant les deux bases et l'état de routage.
+     *
+     * @param primaryDataSource la base primaire source
+     * @param replicaDataSource la réplique cible
+     * @param routingState état de routage à prévenir lorsque la réplique est prête
+     */
+    public ReplicationStandIn(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                              @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                              ReplicaRoutingState routingState) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+        this.routingState = routingState;
+    }
+
+    /**
+     * Effectue une première copie complète une fois le schéma créé et les données initiales
+     * insérées, ouvre la réplique aux lectures puis planifie les copies suivantes.
+     *
+     * @throws SQLException en cas d'échec de la première copie
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() throws SQLException {
+        sync();
+        routingState.markReplicaReady();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                sync();
+            } catch (SQLException e) {
+                System.out.println("ReplicationStandIn: sync failed - " + e.getMessage());
+            }
+        }, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Arrête la réplication périodique.
+     */
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Copie l'état courant de la primaire vers la réplique.
+     *
+     * @throws SQLException en cas d'erreur JDBC
+     */
+    synchronized void sync() throws SQLException {
+        try (Connection source = primaryDataSource.getConnection();
+             Connection target = replicaDataSource.getConnection()) {
+            if (!schemaCopied) {
+                copySchema(source, target);
+                schemaCopied = true;
+            }
+            target.setAutoCommit(false);
+            try {
+                for (String table : listTables(source)) {
+                    copyTable(source, target, table);
+                }
+                target.commit();
+            } catch (SQLException e) {
+                target.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private void copySchema(Connection source, Connection target) throws SQLException {
+        try (Statement read = source.createStatement();
+             ResultSet script = read.executeQuery("SCRIPT NODATA");
+             Statement write = target.createStatement()) {
+            while (script.next()) {
+                write.execute(script.getString(1));
+            }
+            // La réplique n'est jamais écrite par l'application : l'ordre de copie des tables est libre
+            write.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        }
+    }
+
+    private List<String> listTables(Connection source) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement statement = source.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                     + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+            while (rs.next()) {
+                tables.add(rs.getString(1));
+            }
+        }
+        return tables;
+    }
+
+    private void copyTable(Connection source, Connection target, String table) throws SQLException {
+        String quoted = "\"" + table + "\"";
+        try (Statement delete = target.createStatement()) {
+            delete.executeUpdate("DELETE FROM " + quoted);
+        }
+        try (Statement read = source.createStatement();
+             ResultSet rows = read.executeQuery("SELECT * FROM " + quoted)) {
+            int columns = rows.getMetaData().getColumnCount();
+            String placeholders = String.join(", ", Collections.nCopies(columns, "?"));
+            try (PreparedStatement insert = target.prepareStatement(
+                    "INSERT INTO " + quoted + " VALUES (" + placeholders + ")")) {
+                while (rows.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        insert.setObject(i, rows.getObject(i));
+                    }
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+}
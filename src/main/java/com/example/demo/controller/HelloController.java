@@ -1,11 +1,16 @@
 package com.example.demo.controller;
 
+import com.example.demo.services.ResponseBodyStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+
 /**
  * Contrôleur REST pour les endpoints de test "Hello".
  *
@@ -15,14 +20,28 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/hello")
 public class HelloController {
 
+    private final ResponseBodyStore responseBodyStore;
+
+    /**
+     * Constructeur injectant le stockage des corps de réponse pré-calculés.
+     *
+     * @param responseBodyStore stockage des corps sérialisés et compressés
+     */
+    public HelloController(ResponseBodyStore responseBodyStore) {
+        this.responseBodyStore = responseBodyStore;
+    }
+
     /**
      * Endpoint accessible à tous, même sans authentification.
+     * Le corps pré-compressé est écrit directement dans la réponse.
      *
-     * @return un message public simple
+     * @param request requête HTTP, pour l'encodage accepté
+     * @param response réponse HTTP recevant le message public simple
+     * @throws IOException en cas d'erreur d'écriture
      */
     @GetMapping("/public")
-    public ResponseEntity<String> getPublic() {
-        return ResponseEntity.ok("Hello getPublic");
+    public void getPublic(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        responseBodyStore.getText("GET /hello/public", "Hello getPublic").writeTo(request, response);
     }
 
     /**
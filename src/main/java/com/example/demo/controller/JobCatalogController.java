@@ -0,0 +1,93 @@
+package com.example.demo.controller;
+
+import com.example.demo.models.JobOfferSummary;
+import com.example.demo.services.JobCatalogSnapshot;
+import com.example.demo.services.JobOfferService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contrôleur REST pour parcourir le catalogue des offres d'emploi page par page.
+ *
+ * Les pages sont servies depuis l'instantané projeté en mémoire lorsqu'il est activé,
+ * sinon depuis JPA ; les deux chemins produisent le même JSON.
+ */
+@RestController
+@RequestMapping("/jobs")
+public class JobCatalogController {
+
+    /**
+     * Taille maximale d'une page.
+     */
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final JobOfferService jobOfferService;
+    private final JobCatalogSnapshot jobCatalogSnapshot;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructeur injectant le service des offres, l'instantané du catalogue et le sérialiseur JSON.
+     *
+     * @param jobOfferService service des offres, pour le chemin JPA
+     * @param jobCatalogSnapshot instantané du catalogue projeté en mémoire
+     * @param objectMapper l'ObjectMapper utilisé pour le chemin JPA
+     */
+    public JobCatalogController(JobOfferService jobOfferService, JobCatalogSnapshot jobCatalogSnapshot,
+                                ObjectMapper objectMapper) {
+        this.jobOfferService = jobOfferService;
+        this.jobCatalogSnapshot = jobCatalogSnapshot;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Écrit une page d'offres non expirées triées par id croissant, avec l'id à passer
+     * pour la page suivante (null s'il n'y en a pas).
+     * Le chemin de l'instantané n'ouvre ni connexion ni transaction : seule la lecture JPA
+     * passe par une transaction en lecture seule.
+     *
+     * @param afterId id de la dernière offre de la page précédente, 0 pour la première page
+     * @param size nombre maximal d'offres dans la page
+     * @param source "jpa" pour forcer la lecture en base, utile pour comparer les deux chemins
+     * @param response réponse HTTP recevant la page en JSON
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    @GetMapping("/page")
+    public void listJobPage(@RequestParam(defaultValue = "0") long afterId,
+                            @RequestParam(defaultValue = "20") int size,
+                            @RequestParam(required = false) String source,
+                            HttpServletResponse response) throws IOException {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        if (jobCatalogSnapshot.isAvailable() && !"jpa".equals(source)) {
+            jobCatalogSnapshot.writePage(afterId, pageSize, response.getOutputStream());
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<JobOfferSummary> jobs = jobOfferService.findActivePage(afterId, pageSize);
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("jobs", jobs);
+        page.put("nextAfterId", jobs.size() == pageSize ? jobs.get(jobs.size() - 1).id() : null);
+        objectMapper.writeValue(response.getOutputStream(), page);
+        jobCatalogSnapshot.recordJpaPage(System.nanoTime() - start);
+    }
+
+    /**
+     * Retourne les statistiques de l'instantané et la latence moyenne des pages
+     * servies par l'instantané et par JPA.
+     *
+     * @return les statistiques courantes
+     */
+    @GetMapping("/snapshot/stats")
+    public Map<String, Object> getSnapshotStats() {
+        return jobCatalogSnapshot.getStats();
+    }
+}
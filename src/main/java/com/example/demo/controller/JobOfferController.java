@@ -1,17 +1,30 @@
 package com.example.demo.controller;
 
+import com.example.demo.config.ReplicaRoutingState;
 import com.example.demo.models.JobOffer;
+import com.example.demo.models.JobOfferSummary;
 import com.example.demo.models.Role;
 import com.example.demo.models.UserApp;
 import com.example.demo.repositories.JobOfferRepository;
 import com.example.demo.repositories.UserAppRepository;
+import com.example.demo.services.JobOfferService;
+import com.example.demo.services.JobOfferWriteBehind;
+import com.example.demo.services.ResponseBodyStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Contrôleur REST pour gérer les opérations CRUD sur les offres d'emploi.
@@ -25,31 +38,59 @@ public class JobOfferController {
 
     private final JobOfferRepository jobOfferRepository;
     private final UserAppRepository userAppRepository;
+    private final JobOfferService jobOfferService;
+    private final JobOfferWriteBehind jobOfferWriteBehind;
+    private final ReplicaRoutingState replicaRoutingState;
+    private final ResponseBodyStore responseBodyStore;
 
     /**
-     * Constructeur injectant les repositories nécessaires.
+     * Constructeur injectant les repositories, le service d'écriture des offres, le service
+     * d'écriture différée, l'état de routage et le stockage des corps de réponse.
      *
-     * @param jobOfferRepository repository pour gérer les offres d'emploi
+     * @param jobOfferRepository repository pour lire les offres d'emploi
      * @param userAppRepository repository pour gérer les utilisateurs
+     * @param jobOfferService service des offres : lectures en lecture seule et écritures publiant les changements validés
+     * @param jobOfferWriteBehind service d'écriture groupée des offres, si activé
+     * @param replicaRoutingState état de routage lecture/écriture, pour lire ses propres écritures
+     * @param responseBodyStore stockage des corps de réponse sérialisés et compressés
      */
-    public JobOfferController(JobOfferRepository jobOfferRepository, UserAppRepository userAppRepository) {
+    public JobOfferController(JobOfferRepository jobOfferRepository, UserAppRepository userAppRepository,
+                              JobOfferService jobOfferService, JobOfferWriteBehind jobOfferWriteBehind,
+                              ReplicaRoutingState replicaRoutingState, ResponseBodyStore responseBodyStore) {
         this.jobOfferRepository = jobOfferRepository;
         this.userAppRepository = userAppRepository;
+        this.jobOfferService = jobOfferService;
+        this.jobOfferWriteBehind = jobOfferWriteBehind;
+        this.replicaRoutingState = replicaRoutingState;
+        this.responseBodyStore = responseBodyStore;
     }
 
     /**
-     * Liste toutes les offres d'emploi.
+     * Liste toutes les offres d'emploi non expirées.
      * Accessible uniquement aux utilisateurs authentifiés.
+     * Lecture seule : servie par la réplique lorsque le profil {@code replica} est actif.
+     * La liste sérialisée et compressée est réutilisée jusqu'à la prochaine écriture
+     * ou la prochaine expiration d'offre ; seule sa construction ouvre une transaction.
+     * Les offres sont listées sous forme de {@link JobOfferSummary}, sans l'entité du créateur.
      *
-     * @return liste des offres d'emploi
+     * @param request requête HTTP, pour l'encodage accepté
+     * @param response réponse HTTP recevant la liste des offres d'emploi en JSON
+     * @throws IOException en cas d'erreur d'écriture
      */
     @GetMapping
-    public List<JobOffer> listAllJobs() {
-        return jobOfferRepository.findAll();
+    public void listAllJobs(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        // Un auteur récent lit la primaire : son corps ne doit pas être partagé avec celui lu sur la réplique
+        String route = replicaRoutingState.isStickyForCurrentUser() ? "GET /jobs#primary" : "GET /jobs";
+        responseBodyStore.getJson(route,
+                jobOfferService::findActive,
+                jobs -> jobs.stream().map(JobOfferSummary::expiresAt).filter(Objects::nonNull).min(Instant::compareTo).orElse(null)
+        ).writeTo(request, response);
     }
 
     /**
      * Ajoute une nouvelle offre d'emploi liée à l'utilisateur connecté.
+     * En mode write-behind, l'offre est mise en file et la réponse 202 contient
+     * un identifiant de suivi ; une file pleine renvoie 503.
      *
      * @param jobOffer l'offre d'emploi à ajouter
      * @param authentication objet d'authentification représentant l'utilisateur connecté
@@ -76,7 +117,25 @@ public class JobOfferController {
             }
 
             jobOffer.setCreator(user);
-            jobOfferRepository.save(jobOffer);
+            replicaRoutingState.recordWrite(user.getUsername());
+
+            if (jobOfferWriteBehind.isEnabled()) {
+                Optional<String> trackingId = jobOfferWriteBehind.enqueue(jobOffer);
+                if (trackingId.isEmpty()) {
+                    System.out.println("addJob: Write-behind queue full");
+                    return ResponseEntity.status(503)
+                            .header(HttpHeaders.RETRY_AFTER, "1")
+                            .body("Job offer queue is full, retry later");
+                }
+                System.out.println("addJob: Job offer queued with tracking id " + trackingId.get());
+                return ResponseEntity.accepted()
+                        .header(HttpHeaders.LOCATION, "/jobs/pending/" + trackingId.get())
+                        .body(Map.of("trackingId", trackingId.get()));
+            }
+
+            long start = System.currentTimeMillis();
+            jobOfferService.create(jobOffer);
+            jobOfferWriteBehind.recordSynchronous(System.currentTimeMillis() - start);
             System.out.println("addJob: Job offer saved successfully");
 
             return ResponseEntity.ok("Job offer created");
@@ -87,15 +146,31 @@ public class JobOfferController {
         }
     }
 
+    /**
+     * Retourne l'état de persistance d'une offre mise en file en mode write-behind.
+     *
+     * @param trackingId l'identifiant de suivi renvoyé par addJob
+     * @return l'accusé de persistance, ou 404 si l'identifiant est inconnu
+     */
+    @GetMapping("/pending/{trackingId}")
+    public ResponseEntity<?> getPendingJob(@PathVariable String trackingId) {
+        return jobOfferWriteBehind.getAck(trackingId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     /**
      * Supprime une offre d'emploi par son id.
      * Seuls l'utilisateur créateur ou un administrateur peuvent supprimer l'offre.
+     * La méthode s'exécute dans une transaction en lecture-écriture : l'offre est donc lue
+     * sur la base primaire, et non sur une réplique qui ne la connaîtrait pas encore.
      *
      * @param id l'id de l'offre d'emploi à supprimer
      * @param authentication objet d'authentification représentant l'utilisateur connecté
      * @return réponse HTTP avec confirmation, erreur ou refus d'autorisation
      */
     @DeleteMapping("/{id}")
+    @Transactional
     public ResponseEntity<?> deleteJob(@PathVariable Long id, Authentication authentication) {
         JobOffer jobOffer = jobOfferRepository.findById(id).orElse(null);
         if (jobOffer == null) {
@@ -125,7 +200,13 @@ public class JobOfferController {
                 jobOffer.getCreator().getUsername().equals(user.getUsername());
 
         if (isAdmin || isCreator) {
-            jobOfferRepository.delete(jobOffer);
+            replicaRoutingState.recordWrite(user.getUsername());
+            String creatorUsername = jobOffer.getCreator() == null ? null : jobOffer.getCreator().getUsername();
+            // L'offre a pu être supprimée entre-temps (autre requête ou balayage des offres expirées)
+            if (!jobOfferService.delete(jobOffer.getId(), creatorUsername)) {
+                System.out.println("deleteJob: JobOffer already deleted with id " + id);
+                return ResponseEntity.notFound().build();
+            }
             System.out.println("deleteJob: Job offer deleted by user " + user.getUsername());
             return ResponseEntity.ok("Job offer deleted");
         } else {
@@ -0,0 +1,71 @@
+package com.example.demo.controller;
+
+import com.example.demo.services.JobOfferExpirySweeper;
+import com.example.demo.services.JobOfferWriteBehind;
+import com.example.demo.services.ResponseBodyStore;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Contrôleur REST exposant les statistiques des services liés aux offres d'emploi.
+ *
+ * Toutes les méthodes nécessitent une authentification préalable.
+ */
+@RestController
+@PreAuthorize("isAuthenticated()")
+@RequestMapping("/jobs")
+public class JobStatsController {
+
+    private final JobOfferWriteBehind jobOfferWriteBehind;
+    private final JobOfferExpirySweeper jobOfferExpirySweeper;
+    private final ResponseBodyStore responseBodyStore;
+
+    /**
+     * Constructeur injectant les services dont les statistiques sont exposées.
+     *
+     * @param jobOfferWriteBehind service d'écriture groupée des offres
+     * @param jobOfferExpirySweeper service de suppression des offres expirées
+     * @param responseBodyStore stockage des corps de réponse sérialisés et compressés
+     */
+    public JobStatsController(JobOfferWriteBehind jobOfferWriteBehind, JobOfferExpirySweeper jobOfferExpirySweeper,
+                              ResponseBodyStore responseBodyStore) {
+        this.jobOfferWriteBehind = jobOfferWriteBehind;
+        this.jobOfferExpirySweeper = jobOfferExpirySweeper;
+        this.responseBodyStore = responseBodyStore;
+    }
+
+    /**
+     * Retourne les statistiques du mode write-behind (débit, taille des groupes, latence)
+     * et celles des créations synchrones, pour comparer les deux modes.
+     *
+     * @return les statistiques courantes
+     */
+    @GetMapping("/write-behind/stats")
+    public Map<String, Object> getWriteBehindStats() {
+        return jobOfferWriteBehind.getStats();
+    }
+
+    /**
+     * Retourne les statistiques du balayage des offres expirées (offres supprimées, durée des lots).
+     *
+     * @return les statistiques courantes
+     */
+    @GetMapping("/expiry/stats")
+    public Map<String, Object> getExpiryStats() {
+        return jobOfferExpirySweeper.getStats();
+    }
+
+    /**
+     * Retourne les statistiques du stockage des corps de réponse (succès, échecs, coût de construction).
+     *
+     * @return les statistiques courantes
+     */
+    @GetMapping("/response-cache/stats")
+    public Map<String, Object> getResponseCacheStats() {
+        return responseBodyStore.getStats();
+    }
+}
@@ -4,7 +4,10 @@ import com.example.demo.models.Role;
 import com.example.demo.models.UserApp;
 import com.example.demo.repositories.UserAppRepository;
 import com.example.demo.services.JwtService;
+import com.example.demo.services.UserAppService;
+import com.example.demo.services.UsernameIndex;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
@@ -13,6 +16,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Contrôleur REST pour gérer l'authentification des utilisateurs,
@@ -28,11 +32,24 @@ public class LoginController {
     @Autowired
     UserAppRepository userAppRepository;
 
+    @Autowired
+    UserAppService userAppService;
+
+    @Autowired
+    UsernameIndex usernameIndex;
+
     private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
+    /**
+     * Hash BCrypt factice comparé lorsque l'utilisateur est inconnu,
+     * pour que le temps de réponse ne révèle pas l'existence du compte.
+     */
+    private final String dummyHash = passwordEncoder.encode(UUID.randomUUID().toString());
+
     /**
      * Authentifie un utilisateur avec son nom d'utilisateur et mot de passe,
      * et retourne un cookie JWT si la connexion réussit.
+     * Les noms inconnus de l'index sont rejetés sans requête en base.
      *
      * @param userApp objet UserApp contenant username et password en clair
      * @return ResponseEntity avec un cookie JWT et un message de confirmation
@@ -40,7 +57,9 @@ public class LoginController {
      */
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody UserApp userApp) throws Exception {
-        Optional<UserApp> userAppOptional = userAppRepository.findByUsername(userApp.getUsername());
+        Optional<UserApp> userAppOptional = usernameIndex.mightExist(userApp.getUsername())
+                ? userAppRepository.findByUsername(userApp.getUsername())
+                : Optional.empty();
         if (userAppOptional.isPresent()) {
             UserApp user = userAppOptional.get();
             if (passwordEncoder.matches(userApp.getPassword(), user.getPassword())) {
@@ -49,6 +68,9 @@ public class LoginController {
                         .header(HttpHeaders.SET_COOKIE, cookie.toString())
                         .body("connected");
             }
+        } else {
+            // Hash factice pour un temps de réponse identique à celui d'un mauvais mot de passe
+            passwordEncoder.matches(String.valueOf(userApp.getPassword()), dummyHash);
         }
         throw new Exception("Invalid username or password");
     }
@@ -56,6 +78,7 @@ public class LoginController {
     /**
      * Enregistre un nouvel utilisateur avec un rôle USER par défaut,
      * si le nom d'utilisateur n'existe pas déjà en base.
+     * Les doublons sont détectés via l'index avant toute écriture.
      *
      * @param userApp objet UserApp contenant username et password en clair
      * @return ResponseEntity avec un message de confirmation d'inscription
@@ -63,14 +86,15 @@ public class LoginController {
      */
     @PostMapping("/register")
     public ResponseEntity<?> register(@RequestBody UserApp userApp) throws Exception {
-        Optional<UserApp> userAppOptional = userAppRepository.findByUsername(userApp.getUsername());
-        if (userAppOptional.isEmpty()) {
-            String hashedPassword = passwordEncoder.encode(userApp.getPassword());
-            UserApp newUser = new UserApp();
-            newUser.setUsername(userApp.getUsername());
-            newUser.setPassword(hashedPassword);
-            newUser.setRole(Role.USER); // Rôle USER par défaut
-            userAppRepository.save(newUser);
+        boolean exists = usernameIndex.mightExist(userApp.getUsername())
+                && userAppRepository.findByUsername(userApp.getUsername()).isPresent();
+        if (!exists) {
+            try {
+                userAppService.registerUser(userApp.getUsername(), userApp.getPassword(), Role.USER); // Rôle USER par défaut
+            } catch (DataIntegrityViolationException e) {
+                // Inscription concurrente du même nom : la contrainte unique reste le dernier rempart
+                throw new Exception("Username already exists");
+            }
             return ResponseEntity.ok("User registered");
         } else {
             throw new Exception("Username already exists");
@@ -0,0 +1,88 @@
+package com.example.demo.controller;
+
+import com.example.demo.models.JobOfferSummary;
+import com.example.demo.models.UserApp;
+import com.example.demo.repositories.JobOfferRepository;
+import com.example.demo.repositories.UserAppRepository;
+import com.example.demo.services.CreatorJobCounts;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Contrôleur REST pour consulter les offres d'emploi publiées par un utilisateur donné.
+ *
+ * La pagination se fait par clé (keyset) sur l'id de l'offre : chaque page reprend
+ * après le dernier id de la page précédente, sans OFFSET.
+ */
+@RestController
+@RequestMapping("/users")
+public class UserJobOfferController {
+
+    /**
+     * Taille maximale d'une page.
+     */
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final JobOfferRepository jobOfferRepository;
+    private final UserAppRepository userAppRepository;
+    private final CreatorJobCounts creatorJobCounts;
+
+    /**
+     * Constructeur injectant les repositories et les compteurs par créateur.
+     *
+     * @param jobOfferRepository repository pour gérer les offres d'emploi
+     * @param userAppRepository repository pour gérer les utilisateurs
+     * @param creatorJobCounts compteurs d'offres par créateur
+     */
+    public UserJobOfferController(JobOfferRepository jobOfferRepository, UserAppRepository userAppRepository,
+                                  CreatorJobCounts creatorJobCounts) {
+        this.jobOfferRepository = jobOfferRepository;
+        this.userAppRepository = userAppRepository;
+        this.creatorJobCounts = creatorJobCounts;
+    }
+
+    /**
+     * Liste une page des offres d'emploi non expirées publiées par un utilisateur,
+     * triées par id croissant.
+     *
+     * @param username le nom du créateur
+     * @param afterId id de la dernière offre de la page précédente, 0 pour la première page
+     * @param size nombre maximal d'offres dans la page
+     * @return la page d'offres sous forme de {@link JobOfferSummary}, l'id à passer pour la page suivante
+     * (null s'il n'y en a pas) et le nombre total d'offres du créateur, ou 404 si l'utilisateur n'existe pas.
+     * Ce total inclut les offres expirées pas encore supprimées par {@code JobOfferExpirySweeper},
+     * que la page n'affiche plus : l'écart dure au plus {@code jobs.expiry.sweep-interval-ms}.
+     */
+    @GetMapping("/{username}/jobs")
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> listUserJobs(@PathVariable String username,
+                                          @RequestParam(defaultValue = "0") Long afterId,
+                                          @RequestParam(defaultValue = "20") int size) {
+        Optional<UserApp> creator = userAppRepository.findReadOnlyByUsername(username);
+        if (creator.isEmpty()) {
+            System.out.println("listUserJobs: User not found: " + username);
+            return ResponseEntity.notFound().build();
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<JobOfferSummary> jobs = jobOfferRepository.findActiveByCreator(
+                        creator.get().getId(), afterId, Instant.now(), Limit.of(pageSize))
+                .stream()
+                .map(JobOfferSummary::from)
+                .toList();
+
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("jobs", jobs);
+        page.put("nextAfterId", jobs.size() == pageSize ? jobs.get(jobs.size() - 1).id() : null);
+        page.put("total", creatorJobCounts.get(username));
+        return ResponseEntity.ok(page);
+    }
+}
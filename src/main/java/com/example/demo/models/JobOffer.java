@@ -4,17 +4,30 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Instant;
+
 /**
  * Entité représentant une offre d'emploi.
  *
  * Chaque offre est identifiée par un identifiant unique généré automatiquement.
- * Elle contient un titre, une description, et référence l'utilisateur créateur.
+ * Elle contient un titre, une description, une date d'expiration optionnelle,
+ * et référence l'utilisateur créateur.
  */
 @Getter //J'ai eu des problèmes avec les getters et les setters
 @Setter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_job_offer_creator_id", columnList = "creator_id, id"),
+        @Index(name = "idx_job_offer_expires_at", columnList = "expires_at")
+})
 public class JobOffer {
 
+    /**
+     * Date d'expiration enregistrée pour une offre qui n'expire pas.
+     * Une valeur non nulle permet aux requêtes {@code expires_at > :now} d'utiliser l'index.
+     */
+    public static final Instant NEVER = Instant.parse("9999-12-31T23:59:59Z");
+
     /**
      * Identifiant unique auto-généré de l'offre d'emploi.
      */
@@ -35,7 +48,34 @@ public class JobOffer {
     /**
      * Référence vers l'utilisateur qui a créé cette offre.
      * Relation many-to-one vers l'entité UserApp.
+     * Indexée avec l'id pour paginer les offres d'un créateur.
      */
     @ManyToOne
     private UserApp creator;
+
+    /**
+     * Date d'expiration optionnelle de l'offre.
+     * Une offre expirée n'est plus listée et est supprimée par le balayage périodique.
+     * Vaut {@link #NEVER} en base si l'offre n'expire pas.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt = NEVER;
+
+    /**
+     * Retourne la date d'expiration de l'offre.
+     *
+     * @return la date d'expiration, ou null si l'offre n'expire pas
+     */
+    public Instant getExpiresAt() {
+        return NEVER.equals(expiresAt) ? null : expiresAt;
+    }
+
+    /**
+     * Définit la date d'expiration de l'offre.
+     *
+     * @param expiresAt la date d'expiration, ou null si l'offre n'expire pas
+     */
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt == null ? NEVER : expiresAt;
+    }
 }
@@ -0,0 +1,28 @@
+package com.example.demo.models;
+
+import java.time.Instant;
+
+/**
+ * Vue à plat d'une offre d'emploi pour les listes paginées du catalogue.
+ * Ne contient que le nom du créateur, pas l'entité UserApp complète.
+ *
+ * @param id identifiant de l'offre
+ * @param title titre de l'offre
+ * @param description description de l'offre
+ * @param creatorUsername nom de l'utilisateur créateur, null s'il n'y en a pas
+ * @param expiresAt date d'expiration, null si l'offre n'expire pas
+ */
+public record JobOfferSummary(Long id, String title, String description, String creatorUsername, Instant expiresAt) {
+
+    /**
+     * Construit la vue à plat d'une offre d'emploi.
+     *
+     * @param jobOffer l'offre d'emploi
+     * @return la vue correspondante
+     */
+    public static JobOfferSummary from(JobOffer jobOffer) {
+        UserApp creator = jobOffer.getCreator();
+        return new JobOfferSummary(jobOffer.getId(), jobOffer.getTitle(), jobOffer.getDescription(),
+                creator == null ? null : creator.getUsername(), jobOffer.getExpiresAt());
+    }
+}
@@ -1,13 +1,20 @@
 package com.example.demo.repositories;
 
 import com.example.demo.models.JobOffer;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Repository JPA pour gérer les opérations CRUD sur les entités JobOffer.
+ * Une offre qui n'expire pas a pour date d'expiration {@link JobOffer#NEVER} : le filtre
+ * {@code j.expiresAt > :now} suffit donc à exclure les offres expirées.
  */
 @Repository
 public interface JobOfferRepository extends JpaRepository<JobOffer, Long> {
@@ -19,4 +26,87 @@ public interface JobOfferRepository extends JpaRepository<JobOffer, Long> {
      */
     List<JobOffer> findAll();
 
+    /**
+     * Récupère les offres d'emploi non expirées, avec leur créateur.
+     *
+     * @param now l'instant de référence
+     * @return liste des offres sans date d'expiration ou expirant après now
+     */
+    @Query("select j from JobOffer j left join fetch j.creator where j.expiresAt > :now")
+    List<JobOffer> findActive(Instant now);
+
+    /**
+     * Récupère une page d'offres non expirées, après un id donné (pagination par clé).
+     *
+     * @param afterId l'id de la dernière offre déjà lue
+     * @param now l'instant de référence pour exclure les offres expirées
+     * @param limit nombre maximal d'offres retournées
+     * @return les offres d'id strictement supérieur à afterId, par id croissant
+     */
+    @Query("select j from JobOffer j where j.id > :afterId and j.expiresAt > :now order by j.id")
+    List<JobOffer> findActivePage(Long afterId, Instant now, Limit limit);
+
+    /**
+     * Retourne le plus grand id d'offre en base.
+     *
+     * @return le plus grand id, ou null si la table est vide
+     */
+    @Query("select max(j.id) from JobOffer j")
+    Long findMaxId();
+
+    /**
+     * Récupère une page d'offres non expirées d'un créateur, après un id donné (pagination par clé).
+     * S'appuie sur l'index composite (creator_id, id).
+     *
+     * @param creatorId l'id du créateur
+     * @param afterId l'id de la dernière offre déjà lue
+     * @param now l'instant de référence pour exclure les offres expirées
+     * @param limit nombre maximal d'offres retournées
+     * @return les offres du créateur d'id strictement supérieur à afterId, par id croissant
+     */
+    @Query("select j from JobOffer j where j.creator.id = :creatorId and j.id > :afterId "
+            + "and j.expiresAt > :now order by j.id")
+    List<JobOffer> findActiveByCreator(Integer creatorId, Long afterId, Instant now, Limit limit);
+
+    /**
+     * Récupère un lot d'offres expirées, avec le nom de leur créateur.
+     * S'appuie sur l'index sur expires_at. La jointure externe conserve les offres sans créateur.
+     *
+     * @param now l'instant de référence
+     * @param limit taille maximale du lot
+     * @return des paires (id de l'offre, nom du créateur ou null)
+     */
+    @Query("select j.id, c.username from JobOffer j left join j.creator c where j.expiresAt <= :now")
+    List<Object[]> findExpired(Instant now, Limit limit);
+
+    /**
+     * Supprime une offre d'emploi par son id, sans la charger.
+     * Doit être appelée dans une transaction.
+     *
+     * @param id l'id de l'offre à supprimer
+     * @return le nombre de lignes supprimées : 1 si l'offre existait encore, 0 sinon
+     */
+    @Modifying
+    @Query("delete from JobOffer j where j.id = :id")
+    int deleteAndCount(Long id);
+
+    /**
+     * Supprime un lot d'offres d'emploi par leurs ids, en une seule requête.
+     * Doit être appelée dans une transaction.
+     *
+     * @param ids les ids des offres à supprimer
+     * @return le nombre de lignes supprimées
+     */
+    @Modifying
+    @Query("delete from JobOffer j where j.id in :ids")
+    int deleteAllAndCount(Collection<Long> ids);
+
+    /**
+     * Compte les offres d'emploi de chaque créateur.
+     *
+     * @return des paires (nom du créateur, nombre d'offres)
+     */
+    @Query("select j.creator.username, count(j) from JobOffer j group by j.creator.username")
+    List<Object[]> countByCreator();
+
 }
@@ -2,8 +2,11 @@ package com.example.demo.repositories;
 
 import com.example.demo.models.UserApp;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,4 +22,22 @@ public interface UserAppRepository extends JpaRepository<UserApp, Long> {
      * @return un Optional contenant l'utilisateur si trouvé, sinon vide
      */
     Optional<UserApp> findByUsername(String username);
+
+    /**
+     * Recherche un utilisateur par son nom dans une transaction en lecture seule,
+     * pouvant être servie par la réplique lorsque le profil {@code replica} est actif.
+     *
+     * @param username le nom d'utilisateur recherché
+     * @return un Optional contenant l'utilisateur si trouvé, sinon vide
+     */
+    @Transactional(readOnly = true)
+    Optional<UserApp> findReadOnlyByUsername(String username);
+
+    /**
+     * Récupère uniquement les noms de tous les utilisateurs, sans charger les entités.
+     *
+     * @return liste des noms d'utilisateurs
+     */
+    @Query("select u.username from UserApp u")
+    List<String> findAllUsernames();
 }
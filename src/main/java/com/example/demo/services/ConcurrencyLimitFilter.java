@@ -0,0 +1,126 @@
+package com.example.demo.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Filtre limitant le nombre de requêtes traitées simultanément, par classe de route.
+ * <p>
+ * Chaque classe (lectures, authentification, écritures) a son propre {@link GradientLimiter},
+ * de sorte qu'un afflux de logins coûteux ne fasse pas attendre les lectures peu coûteuses.
+ * Une requête au-delà de la limite de sa classe est refusée immédiatement avec un 503.
+ * </p>
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * Classes de routes limitées indépendamment.
+     */
+    public enum RouteClass {
+        READ,
+        AUTH,
+        WRITE
+    }
+
+    @Value("${concurrency-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${concurrency-limit.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${concurrency-limit.min-limit:4}")
+    private int minLimit;
+
+    @Value("${concurrency-limit.max-limit:200}")
+    private int maxLimit;
+
+    private final Map<RouteClass, GradientLimiter> limiters = new EnumMap<>(RouteClass.class);
+
+    /**
+     * Crée un limiteur par classe de route à partir de la configuration.
+     */
+    @PostConstruct
+    public void init() {
+        for (RouteClass routeClass : RouteClass.values()) {
+            limiters.put(routeClass, new GradientLimiter(initialLimit, minLimit, maxLimit));
+        }
+    }
+
+    /**
+     * Réserve une place dans le limiteur de la classe de la requête, ou refuse la requête
+     * avec un 503 si la limite est atteinte. La durée de traitement ajuste la limite.
+     *
+     * @param request  requête HTTP entrante
+     * @param response réponse HTTP
+     * @param filterChain chaîne de filtres
+     * @throws ServletException en cas d'erreur servlet
+     * @throws IOException en cas d'erreur I/O
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RouteClass routeClass = classify(request);
+        GradientLimiter limiter = limiters.get(routeClass);
+        if (!limiter.tryAcquire()) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("Server overloaded, retry later");
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Détermine la classe de route d'une requête.
+     *
+     * @param request requête HTTP entrante
+     * @return AUTH pour /auth/**, READ pour les GET et HEAD, WRITE sinon
+     */
+    RouteClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/auth/")) {
+            return RouteClass.AUTH;
+        }
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return RouteClass.READ;
+        }
+        return RouteClass.WRITE;
+    }
+
+    /**
+     * Retourne le limiteur associé à une classe de route.
+     *
+     * @param routeClass la classe de route
+     * @return le limiteur de cette classe
+     */
+    public GradientLimiter getLimiter(RouteClass routeClass) {
+        return limiters.get(routeClass);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.demo.services;
+
+import com.example.demo.repositories.JobOfferRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compteurs en mémoire du nombre d'offres d'emploi publiées par chaque utilisateur.
+ * <p>
+ * Les compteurs sont calculés une fois depuis {@link JobOfferRepository} au démarrage,
+ * puis mis à jour de façon incrémentale à chaque création ou suppression d'offre validée,
+ * ce qui évite un {@code count(*)} sur la table à chaque affichage.
+ * </p>
+ */
+@Service
+public class CreatorJobCounts {
+
+    private final JobOfferRepository jobOfferRepository;
+
+    private final Map<String, Long> counts = new ConcurrentHashMap<>();
+
+    /**
+     * Protège les mises à jour des compteurs et la fusion du résultat d'un recalcul.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Variations appliquées pendant un recalcul, à ajouter à son résultat ; null hors recalcul.
+     */
+    private Map<String, Long> changesDuringRebuild;
+
+    /**
+     * Constructeur injectant le repository des offres.
+     *
+     * @param jobOfferRepository repository pour gérer les offres d'emploi
+     */
+    public CreatorJobCounts(JobOfferRepository jobOfferRepository) {
+        this.jobOfferRepository = jobOfferRepository;
+    }
+
+    /**
+     * Recalcule tous les compteurs à partir de la base.
+     * Le résultat est construit à part puis fusionné sous verrou avec les créations et suppressions
+     * validées pendant la requête, qui ne sont donc pas écrasées.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (lock) {
+            changesDuringRebuild = new HashMap<>();
+        }
+        Map<String, Long> fresh = new HashMap<>();
+        try {
+            for (Object[] row : jobOfferRepository.countByCreator()) {
+                fresh.put((String) row[0], (Long) row[1]);
+            }
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (lock) {
+            changesDuringRebuild.forEach((username, change) ->
+                    fresh.merge(username, change, (count, delta) -> Math.max(0, count + delta)));
+            changesDuringRebuild = null;
+            counts.keySet().retainAll(fresh.keySet());
+            counts.putAll(fresh);
+        }
+        System.out.println("CreatorJobCounts: " + fresh.size() + " creators loaded");
+    }
+
+    /**
+     * Met à jour le compteur du créateur une fois la création ou la suppression validée.
+     *
+     * @param event le changement d'offre
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobOfferChanged(JobOfferChangedEvent event) {
+        if (event.type() == JobOfferChangedEvent.Type.CREATED) {
+            increment(event.creatorUsername());
+        } else {
+            decrement(event.creatorUsername());
+        }
+    }
+
+    /**
+     * Incrémente le compteur d'un créateur après l'enregistrement d'une offre.
+     *
+     * @param username le nom du créateur
+     */
+    public void increment(String username) {
+        adjust(username, 1);
+    }
+
+    /**
+     * Décrémente le compteur d'un créateur après la suppression d'une offre.
+     *
+     * @param username le nom du créateur
+     */
+    public void decrement(String username) {
+        adjust(username, -1);
+    }
+
+    private void adjust(String username, long delta) {
+        if (username == null) {
+            return;
+        }
+        synchronized (lock) {
+            counts.compute(username, (key, count) -> Math.max(0, (count == null ? 0 : count) + delta));
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.merge(username, delta, Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Retourne le nombre d'offres publiées par un utilisateur.
+     * Une offre expirée reste comptée jusqu'à sa suppression par {@link JobOfferExpirySweeper}.
+     *
+     * @param username le nom du créateur
+     * @return le nombre d'offres, 0 si l'utilisateur n'en a publié aucune
+     */
+    public long get(String username) {
+        return counts.getOrDefault(username, 0L);
+    }
+}
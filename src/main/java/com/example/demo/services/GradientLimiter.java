@@ -0,0 +1,155 @@
+package com.example.demo.services;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limiteur de concurrence adaptatif basé sur le gradient de latence.
+ * <p>
+ * Compare la latence moyenne récente (fenêtre courte) à une latence de référence (moyenne
+ * longue). Tant que la latence reste proche de la référence, la limite augmente d'environ
+ * sa racine carrée ; dès que la latence se dégrade, la limite est réduite proportionnellement.
+ * Les requêtes au-delà de la limite sont refusées immédiatement au lieu d'être mises en attente.
+ * </p>
+ */
+public class GradientLimiter {
+
+    /**
+     * Nombre d'échantillons formant une fenêtre courte.
+     */
+    private static final int WINDOW_SIZE = 20;
+
+    /**
+     * Nombre de fenêtres sur lequel est lissée la latence de référence.
+     */
+    private static final double LONG_WINDOWS = 20;
+
+    /**
+     * Dégradation de latence tolérée avant de réduire la limite.
+     */
+    private static final double TOLERANCE = 1.5;
+
+    /**
+     * Poids de la nouvelle limite calculée par rapport à l'ancienne.
+     */
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile int limit;
+    private double estimatedLimit;
+
+    private long windowSumNanos;
+    private int windowCount;
+    private int windowMaxInFlight;
+    private double longRttNanos;
+
+    /**
+     * Constructeur avec les bornes de la limite.
+     *
+     * @param initialLimit limite de départ
+     * @param minLimit limite minimale
+     * @param maxLimit limite maximale
+     */
+    public GradientLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Tente de réserver une place pour une requête.
+     *
+     * @return true si la requête peut être traitée, false si la limite est atteinte
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.incrementAndGet();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libère la place d'une requête terminée et ajuste la limite avec sa latence.
+     *
+     * @param rttNanos durée de traitement de la requête en nanosecondes
+     */
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightAtCompletion);
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        windowSumNanos += rttNanos;
+        windowCount++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtCompletion);
+        if (windowCount < WINDOW_SIZE) {
+            return;
+        }
+
+        double shortRtt = Math.max(1, (double) windowSumNanos / windowCount);
+        int maxInFlight = windowMaxInFlight;
+        windowSumNanos = 0;
+        windowCount = 0;
+        windowMaxInFlight = 0;
+
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos += (shortRtt - longRttNanos) / LONG_WINDOWS;
+        }
+        // Après une surcharge, la référence ne doit pas rester gonflée trop longtemps
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // Limite peu utilisée : la latence observée ne dit rien de la concurrence supportable
+        if (maxInFlight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        newLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Retourne la limite de concurrence courante.
+     *
+     * @return la limite courante
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Retourne le nombre de requêtes en cours.
+     *
+     * @return le nombre de requêtes en cours
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Retourne le nombre total de requêtes refusées.
+     *
+     * @return le nombre de requêtes refusées
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+}
@@ -0,0 +1,785 @@
+package com.example.demo.services;
+
+import com.example.demo.models.JobOffer;
+import com.example.demo.models.JobOfferSummary;
+import com.example.demo.repositories.JobOfferRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.*;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Instantané binaire du catalogue des offres d'emploi, projeté en mémoire (memory-mapped).
+ * <p>
+ * L'instantané est un fichier compact écrit périodiquement : un en-tête, les offres déjà
+ * sérialisées en JSON, puis une table d'offsets à largeur fixe triée par id. Il est écrit
+ * au fil de pages lues par clé, sans charger tout le catalogue sur le tas, sous un nouveau
+ * nom versionné ({@code <path>.<version>}) : l'ancien fichier, encore projeté, n'est jamais
+ * remplacé, seulement supprimé une fois le nouveau projeté. Au démarrage, le fichier est
+ * projeté en mémoire hors du tas Java ; les pages de {@code GET /jobs/page} sont écrites
+ * en copiant les tranches d'octets du fichier vers la réponse, sans créer d'entités ni
+ * de chaînes. Les écritures postérieures à l'instantané sont conservées dans un journal
+ * de deltas (en mémoire et en fichier) superposé à l'instantané à la lecture.
+ * Désactivé par défaut (propriété {@code job-snapshot.enabled}).
+ * </p>
+ */
+@Service
+public class JobCatalogSnapshot {
+
+    private static final int MAGIC = 0x4A4F4253;
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Taille de l'en-tête : magic, version, nombre d'offres, réservé, plus grand id,
+     * date de création et position de la table d'offsets.
+     */
+    private static final int HEADER_SIZE = 40;
+
+    /**
+     * Taille d'une entrée de la table d'offsets : id, expiration, offset et longueur du JSON.
+     */
+    private static final int ENTRY_SIZE = 24;
+
+    /**
+     * Taille d'une entrée du journal hors JSON : opération, id, expiration et longueur.
+     */
+    private static final int DELTA_ENTRY_HEADER_SIZE = 21;
+
+    private static final byte OP_UPSERT = 1;
+    private static final byte OP_DELETE = 2;
+
+    /**
+     * Nombre d'offres lues par requête lors de l'écriture d'un instantané.
+     */
+    private static final int REFRESH_PAGE_SIZE = 1000;
+
+    private static final byte[] PAGE_START = "{\"jobs\":[".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PAGE_NEXT = "],\"nextAfterId\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Marqueur d'une offre supprimée depuis l'instantané.
+     */
+    private static final DeltaRow DELETED = new DeltaRow(0, new byte[0]);
+
+    /**
+     * Offre écrite depuis l'instantané : expiration et JSON déjà sérialisé.
+     */
+    private record DeltaRow(long expiresAtMillis, byte[] json) {
+    }
+
+    /**
+     * Écritures reçues depuis un instantané donné.
+     */
+    private static final class Delta {
+        private final ConcurrentSkipListMap<Long, DeltaRow> upserts = new ConcurrentSkipListMap<>();
+        private final Set<Long> deletes = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Plus grand id écrit ou supprimé dans ce delta, 0 s'il est vide.
+         */
+        private long maxId() {
+            long max = upserts.isEmpty() ? 0 : upserts.lastKey();
+            for (Long id : deletes) {
+                max = Math.max(max, id);
+            }
+            return max;
+        }
+    }
+
+    /**
+     * Fichier d'instantané projeté en mémoire.
+     */
+    private record Mapped(MappedByteBuffer buffer, int count, long maxId, int tableOffset) {
+
+        private long id(int index) {
+            return buffer.getLong(tableOffset + index * ENTRY_SIZE);
+        }
+
+        private long expiresAt(int index) {
+            return buffer.getLong(tableOffset + index * ENTRY_SIZE + 8);
+        }
+
+        private ByteBuffer json(int index) {
+            int base = tableOffset + index * ENTRY_SIZE + 16;
+            int offset = buffer.getInt(base);
+            int length = buffer.getInt(base + 4);
+            return buffer.slice(offset, length);
+        }
+
+        /**
+         * Recherche dichotomique du premier index dont l'id est strictement supérieur à afterId.
+         */
+        private int firstAfter(long afterId) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (id(mid) <= afterId) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * État lu par les requêtes : instantané courant et deltas à superposer, du plus ancien au plus récent.
+     */
+    private record State(Mapped snapshot, List<Delta> deltas) {
+    }
+
+    /**
+     * Écriture reçue avant le chargement de l'instantané, appliquée une fois celui-ci chargé.
+     */
+    private record EarlyWrite(byte op, long id, long expiresAtMillis, byte[] json) {
+    }
+
+    @Value("${job-snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${job-snapshot.path:data/job-catalog.snapshot}")
+    private String snapshotPath;
+
+    private final JobOfferRepository jobOfferRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile State state;
+    private FileChannel deltaLog;
+
+    /**
+     * Version du fichier d'instantané projeté, 0 avant le premier instantané.
+     */
+    private long version;
+
+    /**
+     * Protège les deltas et le journal, sans bloquer les écritures pendant la création d'un instantané.
+     */
+    private final Object deltaLock = new Object();
+
+    /**
+     * Écritures validées avant {@link #load()}, par exemple par les données initiales.
+     */
+    private final List<EarlyWrite> earlyWrites = new ArrayList<>();
+
+    private final AtomicLong snapshotPages = new AtomicLong();
+    private final AtomicLong snapshotPageNanos = new AtomicLong();
+    private final AtomicLong jpaPages = new AtomicLong();
+    private final AtomicLong jpaPageNanos = new AtomicLong();
+    private volatile long lastSnapshotMs;
+
+    /**
+     * Constructeur injectant le repository des offres et le sérialiseur JSON.
+     *
+     * @param jobOfferRepository repository pour lire les offres lors de la création d'un instantané
+     * @param objectMapper l'ObjectMapper utilisé pour sérialiser les offres
+     */
+    public JobCatalogSnapshot(JobOfferRepository jobOfferRepository, ObjectMapper objectMapper) {
+        this.jobOfferRepository = jobOfferRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Au démarrage, projette le dernier instantané et rejoue le journal de deltas.
+     * L'instantané et le journal sont supprimés puis recréés depuis la base lorsque l'instantané
+     * est absent ou illisible, que la dernière entrée du journal est tronquée, ou que le plus
+     * grand id connu (en-tête de l'instantané et journal) diffère du plus grand id en base :
+     * base réinitialisée si l'id connu est plus grand, écritures perdues s'il est plus petit.
+     * La suppression de l'offre la plus récente peut aussi déclencher cette reconstruction,
+     * ce qui ne coûte qu'un instantané. Les écritures reçues avant le chargement sont
+     * appliquées ensuite. Les fichiers temporaires laissés par un arrêt pendant une écriture
+     * sont supprimés.
+     *
+     * @throws IOException en cas d'erreur d'accès aux fichiers
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        Files.createDirectories(Paths.get(snapshotPath).toAbsolutePath().getParent());
+        deleteTemporaryFiles();
+        version = latestVersion();
+        Mapped mapped = version > 0 ? map(snapshotFile(version)) : null;
+        Delta delta = mapped != null ? replayDeltaLog() : null;
+        long dbMaxId = maxIdInDatabase();
+        if (mapped == null || delta == null || Math.max(mapped.maxId(), delta.maxId()) != dbMaxId) {
+            System.out.println("JobCatalogSnapshot: no usable snapshot, building a new one");
+            Files.deleteIfExists(deltaPath());
+            deleteSnapshotsExcept(-1);
+            openDeltaLog();
+            publish(new State(null, List.of(new Delta())));
+            refresh();
+            return;
+        }
+        openDeltaLog();
+        publish(new State(mapped, List.of(delta)));
+        deleteSnapshotsExcept(version);
+        System.out.println("JobCatalogSnapshot: mapped " + mapped.count() + " job offers, "
+                + (delta.upserts.size() + delta.deletes.size()) + " deltas replayed");
+    }
+
+    /**
+     * Écrit un nouvel instantané à partir de la base, le projette en mémoire et réduit
+     * le journal de deltas aux écritures reçues pendant sa création.
+     * L'instantané précédent est supprimé une fois le nouveau projeté ; si le système
+     * refuse de supprimer un fichier encore projeté, la suppression est retentée au suivant.
+     *
+     * @throws IOException en cas d'erreur d'écriture du fichier
+     */
+    @Scheduled(fixedDelayString = "${job-snapshot.interval-ms:300000}",
+            initialDelayString = "${job-snapshot.interval-ms:300000}")
+    public synchronized void refresh() throws IOException {
+        if (!enabled || state == null) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+
+        // Les écritures à partir d'ici vont dans un nouveau delta, qui survivra à l'instantané
+        Delta next = new Delta();
+        synchronized (deltaLock) {
+            List<Delta> deltas = new ArrayList<>(state.deltas());
+            deltas.add(next);
+            state = new State(state.snapshot(), List.copyOf(deltas));
+        }
+
+        // Toute offre d'id supérieur sera validée après ce point, donc présente dans le nouveau delta
+        long dbMaxId = maxIdInDatabase();
+        long nextVersion = version + 1;
+        Path path = snapshotFile(nextVersion);
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        int count = write(tmp, dbMaxId, Instant.now());
+        // Nouveau nom : aucun fichier projeté n'est remplacé
+        Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE);
+
+        Mapped mapped = map(path);
+        if (mapped == null) {
+            throw new IOException("Job catalog snapshot " + path + " is unreadable");
+        }
+        synchronized (deltaLock) {
+            state = new State(mapped, List.of(next));
+            rewriteDeltaLog(next);
+        }
+        version = nextVersion;
+        deleteSnapshotsExcept(version);
+        lastSnapshotMs = System.currentTimeMillis() - start;
+        System.out.println("JobCatalogSnapshot: wrote " + count + " job offers in " + lastSnapshotMs + " ms");
+    }
+
+    /**
+     * Ferme le journal de deltas.
+     *
+     * @throws IOException en cas d'erreur de fermeture
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (deltaLock) {
+            if (deltaLog != null) {
+                deltaLog.close();
+            }
+        }
+    }
+
+    /**
+     * Indique si les pages peuvent être servies depuis l'instantané.
+     *
+     * @return true si l'instantané est activé et chargé
+     */
+    public boolean isAvailable() {
+        return enabled && state != null && state.snapshot() != null;
+    }
+
+    /**
+     * Reporte dans le journal de deltas une création ou une suppression d'offre validée.
+     *
+     * @param event le changement d'offre
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobOfferChanged(JobOfferChangedEvent event) {
+        if (event.type() == JobOfferChangedEvent.Type.CREATED) {
+            recordUpsert(event.offer());
+        } else {
+            recordDelete(event.id());
+        }
+    }
+
+    /**
+     * Enregistre dans le journal de deltas une offre créée ou modifiée.
+     *
+     * @param offer la vue à plat de l'offre enregistrée en base
+     */
+    public void recordUpsert(JobOfferSummary offer) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(offer);
+            long expiresAt = expiresAtMillis(offer.expiresAt());
+            synchronized (deltaLock) {
+                if (state == null) {
+                    earlyWrites.add(new EarlyWrite(OP_UPSERT, offer.id(), expiresAt, json));
+                    return;
+                }
+                applyUpsert(offer.id(), expiresAt, json);
+            }
+        } catch (IOException e) {
+            System.out.println("JobCatalogSnapshot: failed to record job offer " + offer.id() + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Enregistre dans le journal de deltas la suppression d'une offre.
+     *
+     * @param id l'id de l'offre supprimée
+     */
+    public void recordDelete(Long id) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            synchronized (deltaLock) {
+                if (state == null) {
+                    earlyWrites.add(new EarlyWrite(OP_DELETE, id, 0, new byte[0]));
+                    return;
+                }
+                applyDelete(id);
+            }
+        } catch (IOException e) {
+            System.out.println("JobCatalogSnapshot: failed to record deletion of job offer " + id + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * Écrit une page d'offres non expirées depuis l'instantané et ses deltas.
+     * Les offres de l'instantané sont copiées depuis le fichier projeté sans passer par le tas.
+     *
+     * @param afterId id de la dernière offre de la page précédente
+     * @param size nombre maximal d'offres dans la page
+     * @param out flux de sortie de la réponse
+     * @throws IOException en cas d'erreur d'écriture
+     */
+    public void writePage(long afterId, int size, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        State current = state;
+        Mapped snapshot = current.snapshot();
+        long now = System.currentTimeMillis();
+        WritableByteChannel channel = Channels.newChannel(out);
+
+        out.write(PAGE_START);
+        int index = snapshot.firstAfter(afterId);
+        long cursor = afterId;
+        int written = 0;
+        long lastId = -1;
+        while (written < size) {
+            long snapshotId = index < snapshot.count() ? snapshot.id(index) : Long.MAX_VALUE;
+            long id = Math.min(snapshotId, nextDeltaId(current, cursor));
+            if (id == Long.MAX_VALUE) {
+                break;
+            }
+            cursor = id;
+            boolean inSnapshot = id == snapshotId;
+            if (inSnapshot) {
+                index++;
+            }
+
+            // Une écriture récente l'emporte sur la version de l'instantané
+            DeltaRow latest = latest(current, id);
+            if (latest == DELETED) {
+                continue;
+            }
+            if (latest != null) {
+                if (latest.expiresAtMillis() > now) {
+                    writeSeparator(out, written);
+                    out.write(latest.json());
+                    written++;
+                    lastId = id;
+                }
+            } else if (inSnapshot && snapshot.expiresAt(index - 1) > now) {
+                writeSeparator(out, written);
+                channel.write(snapshot.json(index - 1));
+                written++;
+                lastId = id;
+            }
+        }
+        out.write(PAGE_NEXT);
+        out.write(written == size ? Long.toString(lastId).getBytes(StandardCharsets.US_ASCII) : NULL);
+        out.write('}');
+
+        snapshotPages.incrementAndGet();
+        snapshotPageNanos.addAndGet(System.nanoTime() - start);
+    }
+
+    /**
+     * Comptabilise la durée d'une page servie par JPA, pour comparaison avec l'instantané.
+     *
+     * @param nanos durée de la page en nanosecondes
+     */
+    public void recordJpaPage(long nanos) {
+        jpaPages.incrementAndGet();
+        jpaPageNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Retourne les statistiques de l'instantané et la latence moyenne des pages
+     * servies par l'instantané et par JPA, ainsi que l'occupation du tas et le nombre
+     * et la durée cumulée des collections du ramasse-miettes depuis le démarrage.
+     *
+     * @return les statistiques courantes
+     */
+    public Map<String, Object> getStats() {
+        State current = state;
+        Runtime runtime = Runtime.getRuntime();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("snapshotRows", current == null || current.snapshot() == null ? 0 : current.snapshot().count());
+        stats.put("snapshotBytes", current == null || current.snapshot() == null ? 0 : current.snapshot().buffer().capacity());
+        stats.put("deltaRows", current == null ? 0 : current.deltas().stream()
+                .mapToInt(delta -> delta.upserts.size() + delta.deletes.size()).sum());
+        stats.put("lastSnapshotMs", lastSnapshotMs);
+        stats.put("snapshotPages", snapshotPages.get());
+        stats.put("snapshotAvgPageMicros", average(snapshotPageNanos.get(), snapshotPages.get()));
+        stats.put("jpaPages", jpaPages.get());
+        stats.put("jpaAvgPageMicros", average(jpaPageNanos.get(), jpaPages.get()));
+        stats.put("heapUsedBytes", runtime.totalMemory() - runtime.freeMemory());
+        long gcCount = 0;
+        long gcTimeMs = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            // -1 lorsque le collecteur ne fournit pas la valeur
+            gcCount += Math.max(collector.getCollectionCount(), 0);
+            gcTimeMs += Math.max(collector.getCollectionTime(), 0);
+        }
+        stats.put("gcCount", gcCount);
+        stats.put("gcTimeMs", gcTimeMs);
+        return stats;
+    }
+
+    private static double average(long nanos, long count) {
+        return count == 0 ? 0 : (double) nanos / count / 1000;
+    }
+
+    private Delta currentDelta() {
+        List<Delta> deltas = state.deltas();
+        return deltas.get(deltas.size() - 1);
+    }
+
+    /**
+     * Applique une offre écrite au delta courant et au journal. Appelé sous deltaLock.
+     */
+    private void applyUpsert(long id, long expiresAt, byte[] json) throws IOException {
+        Delta delta = currentDelta();
+        delta.deletes.remove(id);
+        delta.upserts.put(id, new DeltaRow(expiresAt, json));
+        appendDelta(OP_UPSERT, id, expiresAt, json);
+    }
+
+    /**
+     * Applique une suppression au delta courant et au journal. Appelé sous deltaLock.
+     */
+    private void applyDelete(long id) throws IOException {
+        Delta delta = currentDelta();
+        delta.upserts.remove(id);
+        delta.deletes.add(id);
+        appendDelta(OP_DELETE, id, 0, new byte[0]);
+    }
+
+    /**
+     * Rend l'état chargé visible et lui applique, dans l'ordre, les écritures reçues avant le chargement.
+     */
+    private void publish(State loaded) throws IOException {
+        synchronized (deltaLock) {
+            state = loaded;
+            for (EarlyWrite write : earlyWrites) {
+                if (write.op() == OP_UPSERT) {
+                    applyUpsert(write.id(), write.expiresAtMillis(), write.json());
+                } else {
+                    applyDelete(write.id());
+                }
+            }
+            earlyWrites.clear();
+        }
+    }
+
+    private long maxIdInDatabase() {
+        Long maxId = jobOfferRepository.findMaxId();
+        return maxId == null ? 0 : maxId;
+    }
+
+    /**
+     * Retourne le plus petit id strictement supérieur à cursor écrit dans l'un des deltas.
+     */
+    private static long nextDeltaId(State current, long cursor) {
+        long next = Long.MAX_VALUE;
+        for (Delta delta : current.deltas()) {
+            Long key = delta.upserts.higherKey(cursor);
+            if (key != null && key < next) {
+                next = key;
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Retourne la dernière écriture connue pour un id, du delta le plus récent au plus ancien :
+     * la ligne écrite, {@link #DELETED} si l'offre a été supprimée, ou null si aucun delta ne la concerne.
+     */
+    private static DeltaRow latest(State current, long id) {
+        List<Delta> deltas = current.deltas();
+        for (int i = deltas.size() - 1; i >= 0; i--) {
+            Delta delta = deltas.get(i);
+            if (delta.deletes.contains(id)) {
+                return DELETED;
+            }
+            DeltaRow row = delta.upserts.get(id);
+            if (row != null) {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    private static void writeSeparator(OutputStream out, int written) throws IOException {
+        if (written > 0) {
+            out.write(',');
+        }
+    }
+
+    private static long expiresAtMillis(Instant expiresAt) {
+        return expiresAt == null ? Long.MAX_VALUE : expiresAt.toEpochMilli();
+    }
+
+    /**
+     * Écrit le fichier d'instantané page par page : en-tête, JSON des offres, puis table d'offsets.
+     * Les entrées de la table sont accumulées dans un fichier temporaire et non sur le tas.
+     * L'en-tête retient le plus grand id en base au début de l'écriture, et non celui des seules
+     * offres non expirées, pour la comparaison faite au chargement.
+     *
+     * @return le nombre d'offres écrites
+     */
+    private int write(Path path, long maxId, Instant now) throws IOException {
+        Path table = path.resolveSibling(path.getFileName() + ".table");
+        int count = 0;
+        long offset = HEADER_SIZE;
+        try {
+            try (DataOutputStream data = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+                 DataOutputStream entries = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(table)))) {
+                // En-tête complété une fois le nombre d'offres connu
+                data.write(new byte[HEADER_SIZE]);
+                long afterId = 0;
+                List<JobOffer> page;
+                do {
+                    page = jobOfferRepository.findActivePage(afterId, now, Limit.of(REFRESH_PAGE_SIZE));
+                    for (JobOffer job : page) {
+                        byte[] json = objectMapper.writeValueAsBytes(JobOfferSummary.from(job));
+                        if (offset + json.length + (count + 1L) * ENTRY_SIZE > Integer.MAX_VALUE) {
+                            throw new IOException("Job catalog snapshot exceeds 2 GB");
+                        }
+                        data.write(json);
+                        entries.writeLong(job.getId());
+                        entries.writeLong(expiresAtMillis(job.getExpiresAt()));
+                        entries.writeInt((int) offset);
+                        entries.writeInt(json.length);
+                        offset += json.length;
+                        count++;
+                    }
+                    if (!page.isEmpty()) {
+                        afterId = page.get(page.size() - 1).getId();
+                    }
+                } while (page.size() == REFRESH_PAGE_SIZE);
+                entries.flush();
+                Files.copy(table, data);
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(count).putInt(0)
+                    .putLong(maxId).putLong(System.currentTimeMillis()).putInt((int) offset).flip();
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+                channel.force(true);
+            }
+            return count;
+        } finally {
+            Files.deleteIfExists(table);
+        }
+    }
+
+    /**
+     * Projette un fichier d'instantané en mémoire, ou retourne null s'il n'est pas reconnu.
+     */
+    private Mapped map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+                return null;
+            }
+            int count = buffer.getInt(8);
+            int tableOffset = buffer.getInt(32);
+            if (count < 0 || tableOffset < HEADER_SIZE || tableOffset + (long) count * ENTRY_SIZE > channel.size()) {
+                return null;
+            }
+            return new Mapped(buffer, count, buffer.getLong(16), tableOffset);
+        }
+    }
+
+    private Path snapshotFile(long version) {
+        return Paths.get(snapshotPath + "." + version);
+    }
+
+    /**
+     * Retourne les versions des fichiers d'instantané présents, c'est-à-dire les fichiers
+     * {@code <path>.<version>} ; le journal et les fichiers temporaires sont ignorés.
+     */
+    private List<Long> snapshotVersions() throws IOException {
+        Path base = Paths.get(snapshotPath).toAbsolutePath();
+        String prefix = base.getFileName() + ".";
+        List<Long> versions = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(base.getParent(), prefix + "*")) {
+            for (Path file : files) {
+                String suffix = file.getFileName().toString().substring(prefix.length());
+                if (!suffix.isEmpty() && suffix.chars().allMatch(Character::isDigit)) {
+                    versions.add(Long.parseLong(suffix));
+                }
+            }
+        }
+        return versions;
+    }
+
+    private long latestVersion() throws IOException {
+        return snapshotVersions().stream().mapToLong(Long::longValue).max().orElse(0);
+    }
+
+    /**
+     * Supprime les fichiers d'instantané autres que la version indiquée.
+     * Un fichier encore projeté peut refuser la suppression (Windows) : il sera retenté plus tard.
+     */
+    private void deleteSnapshotsExcept(long keep) throws IOException {
+        for (long old : snapshotVersions()) {
+            if (old == keep) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(snapshotFile(old));
+            } catch (IOException e) {
+                System.out.println("JobCatalogSnapshot: could not delete old snapshot " + old + " - " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Supprime les fichiers {@code <path>.<version>.tmp} et leurs tables d'offsets
+     * laissés par un arrêt pendant l'écriture d'un instantané.
+     */
+    private void deleteTemporaryFiles() throws IOException {
+        Path base = Paths.get(snapshotPath).toAbsolutePath();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(base.getParent(),
+                base.getFileName() + ".*{.tmp,.table}")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private Path deltaPath() {
+        return Paths.get(snapshotPath + ".delta");
+    }
+
+    private void openDeltaLog() throws IOException {
+        deltaLog = FileChannel.open(deltaPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Ajoute une entrée au journal : opération, id, expiration, longueur et JSON.
+     */
+    private void appendDelta(byte op, long id, long expiresAt, byte[] json) throws IOException {
+        ByteBuffer entry = ByteBuffer.allocate(1 + 8 + 8 + 4 + json.length);
+        entry.put(op).putLong(id).putLong(expiresAt).putInt(json.length).put(json).flip();
+        while (entry.hasRemaining()) {
+            deltaLog.write(entry);
+        }
+    }
+
+    /**
+     * Remplace le journal par les seules écritures reçues depuis le début du dernier instantané.
+     */
+    private void rewriteDeltaLog(Delta delta) throws IOException {
+        deltaLog.close();
+        Files.deleteIfExists(deltaPath());
+        openDeltaLog();
+        for (Map.Entry<Long, DeltaRow> entry : delta.upserts.entrySet()) {
+            appendDelta(OP_UPSERT, entry.getKey(), entry.getValue().expiresAtMillis(), entry.getValue().json());
+        }
+        for (Long id : delta.deletes) {
+            appendDelta(OP_DELETE, id, 0, new byte[0]);
+        }
+    }
+
+    /**
+     * Relit le journal de deltas dans l'ordre d'écriture.
+     *
+     * @return les écritures relues, ou null si la dernière entrée est tronquée par un arrêt brutal :
+     * une écriture validée manque alors et l'instantané doit être reconstruit
+     */
+    private Delta replayDeltaLog() throws IOException {
+        Delta delta = new Delta();
+        if (!Files.exists(deltaPath())) {
+            return delta;
+        }
+        long size = Files.size(deltaPath());
+        long valid = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(deltaPath())))) {
+            while (valid + DELTA_ENTRY_HEADER_SIZE <= size) {
+                byte op = in.readByte();
+                long id = in.readLong();
+                long expiresAt = in.readLong();
+                int length = in.readInt();
+                if (length < 0 || valid + DELTA_ENTRY_HEADER_SIZE + length > size) {
+                    break;
+                }
+                byte[] json = new byte[length];
+                in.readFully(json);
+                valid += DELTA_ENTRY_HEADER_SIZE + length;
+                if (op == OP_UPSERT) {
+                    delta.deletes.remove(id);
+                    delta.upserts.put(id, new DeltaRow(expiresAt, json));
+                } else {
+                    delta.upserts.remove(id);
+                    delta.deletes.add(id);
+                }
+            }
+        }
+        if (valid < size) {
+            System.out.println("JobCatalogSnapshot: delta log ends with a truncated entry");
+            return null;
+        }
+        return delta;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.services;
+
+import com.example.demo.models.JobOffer;
+import com.example.demo.models.JobOfferSummary;
+
+/**
+ * Événement publié par {@link JobOfferService} à chaque création ou suppression d'offre d'emploi.
+ * <p>
+ * Les états dérivés des offres (compteurs par créateur, corps de réponse pré-calculés,
+ * journal de deltas de l'instantané) s'y abonnent avec
+ * {@code @TransactionalEventListener(phase = AFTER_COMMIT)} : ils ne sont mis à jour
+ * qu'une fois l'écriture validée, et jamais pour une transaction annulée.
+ * </p>
+ *
+ * @param type la nature du changement
+ * @param id l'id de l'offre concernée
+ * @param creatorUsername le nom du créateur, null si l'offre n'en a pas
+ * @param offer la vue à plat de l'offre créée, null pour une suppression
+ */
+public record JobOfferChangedEvent(Type type, Long id, String creatorUsername, JobOfferSummary offer) {
+
+    /**
+     * Nature du changement.
+     */
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+
+    /**
+     * Construit l'événement de création d'une offre, une fois son id attribué.
+     *
+     * @param jobOffer l'offre enregistrée
+     * @return l'événement correspondant
+     */
+    public static JobOfferChangedEvent created(JobOffer jobOffer) {
+        JobOfferSummary summary = JobOfferSummary.from(jobOffer);
+        return new JobOfferChangedEvent(Type.CREATED, summary.id(), summary.creatorUsername(), summary);
+    }
+
+    /**
+     * Construit l'événement de suppression d'une offre.
+     *
+     * @param id l'id de l'offre supprimée
+     * @param creatorUsername le nom du créateur, ou null
+     * @return l'événement correspondant
+     */
+    public static JobOfferChangedEvent deleted(Long id, String creatorUsername) {
+        return new JobOfferChangedEvent(Type.DELETED, id, creatorUsername, null);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.demo.services;
+
+import com.example.demo.repositories.JobOfferRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service de suppression périodique des offres d'emploi expirées.
+ * <p>
+ * Les offres expirées sont supprimées par lots de taille bornée, chaque lot par une seule requête
+ * dans sa propre transaction courte, avec une pause entre deux lots et un nombre maximal de lots par passage,
+ * afin de ne jamais tenir de verrou longtemps ni de ralentir les lectures de {@code GET /jobs}.
+ * </p>
+ */
+@Service
+public class JobOfferExpirySweeper {
+
+    @Value("${jobs.expiry.batch-size:500}")
+    private int batchSize;
+
+    @Value("${jobs.expiry.batch-pause-ms:50}")
+    private long batchPauseMs;
+
+    @Value("${jobs.expiry.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    private final JobOfferRepository jobOfferRepository;
+    private final JobOfferService jobOfferService;
+
+    private final AtomicLong sweptCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong totalBatchMs = new AtomicLong();
+    private volatile long lastBatchMs;
+    private volatile long maxBatchMs;
+
+    /**
+     * Constructeur injectant le repository des offres et le service d'écriture des offres.
+     *
+     * @param jobOfferRepository repository pour rechercher les offres expirées
+     * @param jobOfferService service d'écriture des offres, qui publie les suppressions validées
+     */
+    public JobOfferExpirySweeper(JobOfferRepository jobOfferRepository, JobOfferService jobOfferService) {
+        this.jobOfferRepository = jobOfferRepository;
+        this.jobOfferService = jobOfferService;
+    }
+
+    /**
+     * Passage périodique : supprime les offres expirées lot par lot, jusqu'à épuisement
+     * ou jusqu'au nombre maximal de lots, le reste étant traité au passage suivant.
+     *
+     * @throws InterruptedException si la pause entre deux lots est interrompue
+     */
+    @Scheduled(fixedDelayString = "${jobs.expiry.sweep-interval-ms:60000}")
+    public void sweep() throws InterruptedException {
+        Instant now = Instant.now();
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            int deleted = sweepBatch(now);
+            if (deleted < batchSize) {
+                return;
+            }
+            Thread.sleep(batchPauseMs);
+        }
+    }
+
+    /**
+     * Supprime un lot d'offres expirées.
+     * Le lot est lu hors transaction puis supprimé par une seule requête via {@link JobOfferService}.
+     * Si un utilisateur a supprimé l'une des offres entre-temps, ce lot est annulé et chaque offre
+     * est supprimée dans sa propre transaction : seules celles réellement supprimées publient un événement.
+     *
+     * @param now l'instant de référence
+     * @return le nombre d'offres examinées dans le lot
+     */
+    private int sweepBatch(Instant now) {
+        long start = System.currentTimeMillis();
+        List<Object[]> expired = jobOfferRepository.findExpired(now, Limit.of(batchSize));
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        // Nom du créateur null pour une offre sans créateur
+        Map<Long, String> creatorsById = new LinkedHashMap<>();
+        for (Object[] row : expired) {
+            creatorsById.put((Long) row[0], (String) row[1]);
+        }
+        long deleted = creatorsById.size();
+        if (!jobOfferService.deleteAll(creatorsById)) {
+            deleted = creatorsById.entrySet().stream()
+                    .filter(entry -> jobOfferService.delete(entry.getKey(), entry.getValue()))
+                    .count();
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        sweptCount.addAndGet(deleted);
+        batchCount.incrementAndGet();
+        totalBatchMs.addAndGet(elapsed);
+        lastBatchMs = elapsed;
+        maxBatchMs = Math.max(maxBatchMs, elapsed);
+        System.out.println("JobOfferExpirySweeper: swept " + deleted + " expired job offers in " + elapsed + " ms");
+        return expired.size();
+    }
+
+    /**
+     * Retourne les statistiques du balayage des offres expirées.
+     *
+     * @return nombre d'offres supprimées, nombre de lots, durée moyenne, dernière et maximale d'un lot
+     */
+    public Map<String, Object> getStats() {
+        long batches = batchCount.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("swept", sweptCount.get());
+        stats.put("batches", batches);
+        stats.put("avgBatchMs", batches == 0 ? 0 : (double) totalBatchMs.get() / batches);
+        stats.put("lastBatchMs", lastBatchMs);
+        stats.put("maxBatchMs", maxBatchMs);
+        return stats;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.demo.services;
+
+import com.example.demo.models.JobOffer;
+import com.example.demo.models.JobOfferSummary;
+import com.example.demo.repositories.JobOfferRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service d'accès aux offres d'emploi.
+ * <p>
+ * Point de passage unique des créations et suppressions, qu'elles viennent des requêtes HTTP,
+ * de l'écriture différée ou du balayage des offres expirées : chaque écriture publie un
+ * {@link JobOfferChangedEvent} dans la transaction courante.
+ * Les lectures en lecture seule ouvrent leur propre transaction, ce qui permet aux appelants
+ * servis depuis un cache ou un instantané de ne jamais prendre de connexion.
+ * </p>
+ */
+@Service
+public class JobOfferService {
+
+    private final JobOfferRepository jobOfferRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Constructeur injectant le repository des offres et le publicateur d'événements.
+     *
+     * @param jobOfferRepository repository pour gérer les offres d'emploi
+     * @param eventPublisher publicateur des événements de changement d'offre
+     */
+    public JobOfferService(JobOfferRepository jobOfferRepository, ApplicationEventPublisher eventPublisher) {
+        this.jobOfferRepository = jobOfferRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Lit toutes les offres non expirées, dans une transaction en lecture seule.
+     *
+     * @return les offres sans date d'expiration ou expirant après maintenant
+     */
+    @Transactional(readOnly = true)
+    public List<JobOfferSummary> findActive() {
+        return jobOfferRepository.findActive(Instant.now()).stream()
+                .map(JobOfferSummary::from)
+                .toList();
+    }
+
+    /**
+     * Lit une page d'offres non expirées par clé, dans une transaction en lecture seule.
+     *
+     * @param afterId l'id de la dernière offre déjà lue
+     * @param size nombre maximal d'offres retournées
+     * @return les offres d'id strictement supérieur à afterId, par id croissant
+     */
+    @Transactional(readOnly = true)
+    public List<JobOfferSummary> findActivePage(long afterId, int size) {
+        return jobOfferRepository.findActivePage(afterId, Instant.now(), Limit.of(size)).stream()
+                .map(JobOfferSummary::from)
+                .toList();
+    }
+
+    /**
+     * Enregistre une nouvelle offre d'emploi, dans la transaction courante s'il y en a une.
+     *
+     * @param jobOffer l'offre à enregistrer, créateur déjà renseigné
+     * @return l'offre enregistrée, avec son id
+     */
+    @Transactional
+    public JobOffer create(JobOffer jobOffer) {
+        JobOffer saved = jobOfferRepository.save(jobOffer);
+        eventPublisher.publishEvent(JobOfferChangedEvent.created(saved));
+        return saved;
+    }
+
+    /**
+     * Supprime une offre d'emploi, dans la transaction courante s'il y en a une.
+     * Aucun événement n'est publié si l'offre a déjà été supprimée.
+     *
+     * @param id l'id de l'offre à supprimer
+     * @param creatorUsername le nom du créateur de l'offre, ou null
+     * @return true si l'offre a été supprimée, false si elle n'existait plus
+     */
+    @Transactional
+    public boolean delete(Long id, String creatorUsername) {
+        if (jobOfferRepository.deleteAndCount(id) == 0) {
+            return false;
+        }
+        eventPublisher.publishEvent(JobOfferChangedEvent.deleted(id, creatorUsername));
+        return true;
+    }
+
+    /**
+     * Supprime un lot d'offres d'emploi en une seule requête, dans sa propre transaction.
+     * Si une offre a déjà été supprimée entre-temps, la transaction est annulée et rien n'est publié :
+     * l'appelant ne sait pas laquelle manque et doit alors supprimer les offres une à une.
+     *
+     * @param creatorsById les ids des offres à supprimer, associés au nom de leur créateur ou à null
+     * @return true si toutes les offres ont été supprimées, false si la transaction a été annulée
+     */
+    @Transactional
+    public boolean deleteAll(Map<Long, String> creatorsById) {
+        if (jobOfferRepository.deleteAllAndCount(creatorsById.keySet()) != creatorsById.size()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return false;
+        }
+        creatorsById.forEach((id, creatorUsername) ->
+                eventPublisher.publishEvent(JobOfferChangedEvent.deleted(id, creatorUsername)));
+        return true;
+    }
+}
@@ -0,0 +1,316 @@
+package com.example.demo.services;
+
+import com.example.demo.models.JobOffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service d'écriture différée (write-behind) des offres d'emploi.
+ * <p>
+ * Les offres sont placées dans une file bornée puis enregistrées par un unique thread
+ * d'écriture, par groupes, dans une seule transaction par groupe. Un groupe est validé
+ * dès qu'il atteint la taille maximale ou que la fenêtre de temps est écoulée.
+ * Chaque offre reçoit un identifiant de suivi permettant de connaître son état de persistance.
+ * Le mode est désactivé par défaut (propriété {@code jobs.write-behind.enabled}).
+ * </p>
+ */
+@Service
+public class JobOfferWriteBehind {
+
+    /**
+     * État de persistance d'une offre mise en file.
+     */
+    public enum Status {
+        PENDING,
+        PERSISTED,
+        FAILED
+    }
+
+    /**
+     * Accusé de persistance d'une offre : état et identifiant de l'offre une fois enregistrée.
+     *
+     * @param status l'état de persistance
+     * @param jobId l'identifiant de l'offre en base, null tant qu'elle n'est pas enregistrée
+     */
+    public record Ack(Status status, Long jobId) {
+    }
+
+    private record Pending(String trackingId, JobOffer jobOffer, long enqueuedAt) {
+    }
+
+    /**
+     * Compteurs d'offres enregistrées, de latence cumulée et de débit pour un mode d'écriture.
+     */
+    private static final class Throughput {
+
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalLatencyMs = new AtomicLong();
+        private volatile long firstAt;
+        private volatile long lastAt;
+
+        void record(long latencyMs) {
+            long now = System.currentTimeMillis();
+            if (count.getAndIncrement() == 0) {
+                firstAt = now;
+            }
+            lastAt = now;
+            totalLatencyMs.addAndGet(latencyMs);
+        }
+
+        long count() {
+            return count.get();
+        }
+
+        double avgLatencyMs() {
+            long n = count.get();
+            return n == 0 ? 0 : (double) totalLatencyMs.get() / n;
+        }
+
+        /**
+         * Débit observé entre la première et la dernière offre enregistrée, en offres par seconde.
+         */
+        double perSecond() {
+            long elapsed = lastAt - firstAt;
+            return elapsed <= 0 ? 0 : count.get() * 1000.0 / elapsed;
+        }
+    }
+
+    /**
+     * Nombre maximal d'accusés conservés pour consultation.
+     */
+    private static final int MAX_TRACKED = 10_000;
+
+    @Value("${jobs.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${jobs.write-behind.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${jobs.write-behind.batch-size:50}")
+    private int batchSize;
+
+    @Value("${jobs.write-behind.window-ms:20}")
+    private long windowMs;
+
+    private final JobOfferService jobOfferService;
+    private final TransactionTemplate transactionTemplate;
+
+    private BlockingQueue<Pending> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    /**
+     * Rend la vérification de {@code running} et la mise en file atomiques vis-à-vis de l'arrêt :
+     * aucune offre n'entre dans la file une fois que le thread d'écriture a commencé à la vider.
+     */
+    private final Object lifecycleLock = new Object();
+
+    private final Map<String, Ack> acks = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Ack> eldest) {
+            return size() > MAX_TRACKED;
+        }
+    });
+
+    private final Throughput writeBehind = new Throughput();
+    private final Throughput synchronous = new Throughput();
+    private final AtomicLong batchCount = new AtomicLong();
+
+    /**
+     * Constructeur injectant le service d'écriture des offres et le template transactionnel.
+     *
+     * @param jobOfferService service d'écriture des offres, qui publie les changements validés
+     * @param transactionTemplate template utilisé pour valider chaque groupe dans une transaction
+     */
+    public JobOfferWriteBehind(JobOfferService jobOfferService, TransactionTemplate transactionTemplate) {
+        this.jobOfferService = jobOfferService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Démarre le thread d'écriture si le mode write-behind est activé.
+     */
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::drainLoop, "job-offer-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Arrête le thread d'écriture après avoir enregistré les offres encore en file.
+     *
+     * @throws InterruptedException si l'attente de l'arrêt est interrompue
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        synchronized (lifecycleLock) {
+            running = false;
+        }
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * Indique si le mode write-behind est activé.
+     *
+     * @return true si les offres doivent être mises en file, false pour l'écriture synchrone
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Place une offre dans la file d'écriture sans bloquer.
+     *
+     * @param jobOffer l'offre à enregistrer, créateur déjà renseigné
+     * @return l'identifiant de suivi, ou vide si la file est pleine ou le thread d'écriture arrêté
+     */
+    public Optional<String> enqueue(JobOffer jobOffer) {
+        String trackingId = UUID.randomUUID().toString();
+        synchronized (lifecycleLock) {
+            if (!running) {
+                return Optional.empty();
+            }
+            acks.put(trackingId, new Ack(Status.PENDING, null));
+            if (!queue.offer(new Pending(trackingId, jobOffer, System.currentTimeMillis()))) {
+                acks.remove(trackingId);
+                return Optional.empty();
+            }
+        }
+        return Optional.of(trackingId);
+    }
+
+    /**
+     * Retourne l'accusé de persistance associé à un identifiant de suivi.
+     *
+     * @param trackingId l'identifiant de suivi renvoyé par {@link #enqueue}
+     * @return l'accusé, ou vide si l'identifiant est inconnu ou trop ancien
+     */
+    public Optional<Ack> getAck(String trackingId) {
+        return Optional.ofNullable(acks.get(trackingId));
+    }
+
+    /**
+     * Enregistre la durée d'une création synchrone ({@link JobOfferService#create}),
+     * pour comparer ce mode au write-behind.
+     *
+     * @param latencyMs durée de la création, transaction comprise
+     */
+    public void recordSynchronous(long latencyMs) {
+        synchronous.record(latencyMs);
+    }
+
+    /**
+     * Retourne les statistiques courantes du mode write-behind et, pour comparaison,
+     * des créations synchrones.
+     *
+     * @return nombre d'offres validées, de groupes, taille moyenne des groupes,
+     * latence moyenne entre mise en file et validation, débit, profondeur de la file,
+     * puis nombre, latence moyenne et débit des créations synchrones
+     */
+    public Map<String, Object> getStats() {
+        long committed = writeBehind.count();
+        long batches = batchCount.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("committed", committed);
+        stats.put("batches", batches);
+        stats.put("avgBatchSize", batches == 0 ? 0 : (double) committed / batches);
+        stats.put("avgLatencyMs", writeBehind.avgLatencyMs());
+        stats.put("throughputPerSec", writeBehind.perSecond());
+        stats.put("queueDepth", queue == null ? 0 : queue.size());
+        stats.put("syncCommitted", synchronous.count());
+        stats.put("syncAvgLatencyMs", synchronous.avgLatencyMs());
+        stats.put("syncThroughputPerSec", synchronous.perSecond());
+        return stats;
+    }
+
+    /**
+     * Boucle du thread d'écriture : attend une première offre, complète le groupe
+     * jusqu'à la taille maximale ou la fin de la fenêtre de temps, puis le valide.
+     */
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowMs);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                // Arrêt demandé : on termine en vidant la file
+                queue.drainTo(batch);
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Enregistre un groupe d'offres dans une seule transaction.
+     * En cas d'échec, les offres sont réessayées une à une pour isoler la fautive.
+     *
+     * @param batch le groupe d'offres à enregistrer
+     */
+    private void commit(List<Pending> batch) {
+        long start = System.currentTimeMillis();
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    batch.forEach(pending -> jobOfferService.create(pending.jobOffer())));
+            batch.forEach(this::acknowledge);
+            batchCount.incrementAndGet();
+        } catch (Exception e) {
+            System.out.println("JobOfferWriteBehind: batch commit failed, retrying individually - " + e.getMessage());
+            for (Pending pending : batch) {
+                // L'identifiant a pu être attribué par la transaction annulée
+                pending.jobOffer().setId(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> jobOfferService.create(pending.jobOffer()));
+                    acknowledge(pending);
+                } catch (Exception ex) {
+                    System.out.println("JobOfferWriteBehind: job offer " + pending.trackingId() + " failed - " + ex.getMessage());
+                    acks.put(pending.trackingId(), new Ack(Status.FAILED, null));
+                }
+                batchCount.incrementAndGet();
+            }
+        }
+        System.out.println("JobOfferWriteBehind: committed batch of " + batch.size()
+                + " in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    private void acknowledge(Pending pending) {
+        acks.put(pending.trackingId(), new Ack(Status.PERSISTED, pending.jobOffer().getId()));
+        writeBehind.record(System.currentTimeMillis() - pending.enqueuedAt());
+    }
+}
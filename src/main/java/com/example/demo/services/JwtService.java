@@ -75,7 +75,11 @@ public class JwtService extends OncePerRequestFilter {
                                     .parseClaimsJws(token)
                                     .getBody();
 
-                            Optional<UserApp> optUserApp = userAppRepository.findByUsername(claims.getSubject());
+                            // Lecture sur la réplique, puis sur la primaire si l'utilisateur n'y est pas encore répliqué
+                            Optional<UserApp> optUserApp = userAppRepository.findReadOnlyByUsername(claims.getSubject());
+                            if (optUserApp.isEmpty()) {
+                                optUserApp = userAppRepository.findByUsername(claims.getSubject());
+                            }
                             if (optUserApp.isEmpty()) {
                                 throw new UsernameNotFoundException(claims.getSubject());
                             }
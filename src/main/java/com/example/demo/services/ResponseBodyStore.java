@@ -0,0 +1,283 @@
+package com.example.demo.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stockage des corps de réponse déjà sérialisés et compressés pour les routes les plus demandées.
+ * <p>
+ * Chaque corps est conservé sous forme d'octets immuables en trois variantes (identité, gzip,
+ * deflate) et écrit directement dans le flux de sortie de la servlet selon l'en-tête
+ * {@code Accept-Encoding} et ses poids {@code q}, sans nouvelle sérialisation ni compression.
+ * Les entrées sont indexées par route et version du jeu de données : toute écriture validée
+ * sur les offres d'emploi ({@link JobOfferChangedEvent}) change la version.
+ * </p>
+ */
+@Service
+public class ResponseBodyStore {
+
+    /**
+     * Corps de réponse pré-calculé, immuable.
+     */
+    public static final class Body {
+
+        private final String contentType;
+        private final byte[] identity;
+        private final byte[] gzip;
+        private final byte[] deflate;
+        private final Instant validUntil;
+
+        private Body(String contentType, byte[] identity, Instant validUntil, boolean precompress) {
+            this.contentType = contentType;
+            this.identity = identity;
+            this.gzip = precompress ? compress(identity, true) : null;
+            this.deflate = precompress ? compress(identity, false) : null;
+            this.validUntil = validUntil;
+        }
+
+        /**
+         * Écrit la variante acceptée par le client dans la réponse HTTP.
+         *
+         * @param request requête HTTP, pour lire l'en-tête Accept-Encoding
+         * @param response réponse HTTP dans laquelle écrire le corps
+         * @throws IOException en cas d'erreur d'écriture
+         */
+        public void writeTo(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            String encoding = gzip == null ? null : negotiateEncoding(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+            byte[] bytes = identity;
+            if ("gzip".equals(encoding)) {
+                bytes = gzip;
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            } else if ("deflate".equals(encoding)) {
+                bytes = deflate;
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "deflate");
+            }
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            response.setContentType(contentType);
+            response.setContentLength(bytes.length);
+            response.getOutputStream().write(bytes);
+        }
+
+        private boolean isValid() {
+            return validUntil == null || Instant.now().isBefore(validUntil);
+        }
+    }
+
+    /**
+     * Corps sérialisé non compressé et sa fin de validité.
+     */
+    private record Built(byte[] identity, Instant validUntil) {
+    }
+
+    @Value("${response-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${response-cache.max-entries:256}")
+    private int maxEntries;
+
+    @Value("${response-cache.max-age-ms:5000}")
+    private long maxAgeMs;
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Body> bodies = new ConcurrentHashMap<>();
+    private final AtomicLong datasetVersion = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong buildNanos = new AtomicLong();
+
+    /**
+     * Constructeur injectant le sérialiseur JSON de l'application.
+     *
+     * @param objectMapper l'ObjectMapper utilisé par Spring MVC
+     */
+    public ResponseBodyStore(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Retourne le corps JSON d'une route, sérialisé et compressé au premier appel
+     * pour la version courante du jeu de données.
+     * Le corps reste valide au plus {@code response-cache.max-age-ms}, ce qui borne
+     * l'écart avec une réplique en retard, et jamais au-delà de expiresAt.
+     *
+     * @param route identifiant de la route
+     * @param payload fournit l'objet à sérialiser en cas d'absence
+     * @param expiresAt donne, pour l'objet sérialisé, l'instant à partir duquel il n'est plus exact, ou null
+     * @param <T> type de l'objet sérialisé
+     * @return le corps pré-calculé
+     */
+    public <T> Body getJson(String route, Supplier<T> payload, Function<T, Instant> expiresAt) {
+        return get(route, MediaType.APPLICATION_JSON_VALUE, () -> {
+            T value = payload.get();
+            Instant maxAge = Instant.now().plusMillis(maxAgeMs);
+            Instant expiry = expiresAt.apply(value);
+            try {
+                return new Built(objectMapper.writeValueAsBytes(value),
+                        expiry != null && expiry.isBefore(maxAge) ? expiry : maxAge);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Retourne le corps texte d'une route, encodé et compressé au premier appel.
+     *
+     * @param route identifiant de la route
+     * @param text le texte de la réponse
+     * @return le corps pré-calculé
+     */
+    public Body getText(String route, String text) {
+        return get(route, MediaType.TEXT_PLAIN_VALUE + ";charset=UTF-8",
+                () -> new Built(text.getBytes(StandardCharsets.UTF_8), null));
+    }
+
+    /**
+     * Invalide tous les corps dépendant des offres d'emploi en changeant la version du jeu de données.
+     */
+    public void invalidate() {
+        datasetVersion.incrementAndGet();
+        bodies.clear();
+    }
+
+    /**
+     * Invalide les corps dépendant des offres une fois la création ou la suppression validée.
+     *
+     * @param event le changement d'offre
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onJobOfferChanged(JobOfferChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Retourne les statistiques du stockage : succès, échecs et temps moyen de construction
+     * d'un corps (sérialisation et compressions), c'est-à-dire le CPU économisé par succès.
+     *
+     * @return les statistiques courantes
+     */
+    public Map<String, Object> getStats() {
+        long missCount = misses.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("entries", bodies.size());
+        stats.put("datasetVersion", datasetVersion.get());
+        stats.put("hits", hits.get());
+        stats.put("misses", missCount);
+        stats.put("avgBuildMicros", missCount == 0 ? 0 : (double) buildNanos.get() / missCount / 1000);
+        return stats;
+    }
+
+    private Body get(String route, String contentType, Supplier<Built> builder) {
+        long version = datasetVersion.get();
+        String key = route + "@" + version;
+        Body body = bodies.get(key);
+        if (body != null && body.isValid()) {
+            hits.incrementAndGet();
+            return body;
+        }
+
+        misses.incrementAndGet();
+        long start = System.nanoTime();
+        Built built = builder.get();
+        body = new Body(contentType, built.identity(), built.validUntil(), enabled);
+        buildNanos.addAndGet(System.nanoTime() - start);
+
+        // Ne conserve pas un corps calculé pendant une écriture concurrente
+        if (enabled && datasetVersion.get() == version && bodies.size() < maxEntries) {
+            bodies.put(key, body);
+        }
+        return body;
+    }
+
+    /**
+     * Choisit l'encodage de la réponse d'après l'en-tête Accept-Encoding et ses poids {@code q}.
+     * Un encodage de poids 0 est refusé ; {@code *} s'applique aux encodages non cités.
+     * À poids égal, gzip est préféré à deflate, et un encodage compressé à l'identité.
+     *
+     * @param acceptEncoding valeur de l'en-tête, éventuellement null
+     * @return "gzip", "deflate", ou null pour envoyer le corps non compressé
+     */
+    static String negotiateEncoding(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        double gzipQ = -1;
+        double deflateQ = -1;
+        double identityQ = -1;
+        double wildcardQ = -1;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            switch (coding) {
+                case "gzip", "x-gzip" -> gzipQ = Math.max(gzipQ, q);
+                case "deflate" -> deflateQ = q;
+                case "identity" -> identityQ = q;
+                case "*" -> wildcardQ = q;
+                default -> {
+                }
+            }
+        }
+        if (gzipQ < 0) {
+            gzipQ = Math.max(wildcardQ, 0);
+        }
+        if (deflateQ < 0) {
+            deflateQ = Math.max(wildcardQ, 0);
+        }
+        if (identityQ < 0) {
+            identityQ = 0;
+        }
+        double best = Math.max(gzipQ, deflateQ);
+        if (best <= 0 || best < identityQ) {
+            return null;
+        }
+        return gzipQ >= deflateQ ? "gzip" : "deflate";
+    }
+
+    private static byte[] compress(byte[] bytes, boolean gzip) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 2 + 64);
+        try (OutputStream out = gzip ? new GZIPOutputStream(buffer) : new DeflaterOutputStream(buffer)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -23,20 +23,25 @@ public class UserAppService implements UserDetailsService {
 
     private final UserAppRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UsernameIndex usernameIndex;
 
     /**
-     * Constructeur injectant le repository utilisateur et le password encoder.
+     * Constructeur injectant le repository utilisateur, le password encoder et l'index des noms.
      *
      * @param userRepository repository pour accéder aux utilisateurs
      * @param passwordEncoder encodeur de mots de passe
+     * @param usernameIndex index en mémoire des noms d'utilisateurs existants
      */
-    public UserAppService(UserAppRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserAppService(UserAppRepository userRepository, PasswordEncoder passwordEncoder,
+                          UsernameIndex usernameIndex) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.usernameIndex = usernameIndex;
     }
 
     /**
-     * Enregistre un nouvel utilisateur avec le role et mot de passe encodé.
+     * Enregistre un nouvel utilisateur avec le role et mot de passe encodé,
+     * puis l'ajoute à l'index des noms d'utilisateurs.
      *
      * @param username nom d'utilisateur
      * @param rawPassword mot de passe en clair
@@ -48,7 +53,9 @@ public class UserAppService implements UserDetailsService {
         user.setUsername(username);
         user.setPassword(passwordEncoder.encode(rawPassword));
         user.setRole(role);
-        return userRepository.save(user);
+        UserApp saved = userRepository.save(user);
+        usernameIndex.add(saved.getUsername());
+        return saved;
     }
 
     /**
@@ -0,0 +1,77 @@
+package com.example.demo.services;
+
+import com.example.demo.repositories.UserAppRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index en mémoire des noms d'utilisateurs existants.
+ * <p>
+ * Permet de répondre sans requête en base à la question "ce nom d'utilisateur existe-t-il ?",
+ * afin de rejeter rapidement les logins sur des comptes inconnus et les inscriptions en doublon.
+ * L'index est reconstruit depuis {@link UserAppRepository} au démarrage, puis maintenu
+ * par {@link UserAppService#registerUser}.
+ * </p>
+ */
+@Service
+public class UsernameIndex {
+
+    private final UserAppRepository userRepository;
+
+    private final Set<String> usernames = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Indique si l'index a été chargé depuis la base.
+     * Tant qu'il ne l'est pas, toutes les recherches sont considérées comme positives.
+     */
+    private volatile boolean loaded = false;
+
+    /**
+     * Constructeur injectant le repository utilisateur.
+     *
+     * @param userRepository repository pour accéder aux utilisateurs
+     */
+    public UsernameIndex(UserAppRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Reconstruit l'index à partir des noms d'utilisateurs présents en base.
+     * Exécuté une fois l'application prête, après l'insertion des données initiales.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        usernames.addAll(userRepository.findAllUsernames());
+        loaded = true;
+        System.out.println("UsernameIndex: " + usernames.size() + " usernames loaded");
+    }
+
+    /**
+     * Ajoute un nom d'utilisateur à l'index.
+     *
+     * @param username le nom d'utilisateur à ajouter
+     */
+    public void add(String username) {
+        if (username != null) {
+            usernames.add(username);
+        }
+    }
+
+    /**
+     * Indique si un nom d'utilisateur peut exister en base.
+     * Retourne false uniquement lorsque l'utilisateur est certainement absent.
+     *
+     * @param username le nom d'utilisateur recherché
+     * @return true si l'utilisateur existe ou si l'index n'est pas encore chargé, false sinon
+     */
+    public boolean mightExist(String username) {
+        if (username == null) {
+            return false;
+        }
+        return !loaded || usernames.contains(username);
+    }
+}
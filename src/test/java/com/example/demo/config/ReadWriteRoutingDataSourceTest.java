@@ -0,0 +1,75 @@
+package com.example.demo.config;
+
+import com.example.demo.models.Role;
+import com.example.demo.models.UserApp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+	private ReplicaRoutingState routingState;
+	private ReadWriteRoutingDataSource dataSource;
+
+	@BeforeEach
+	void setUp() {
+		routingState = new ReplicaRoutingState();
+		ReflectionTestUtils.setField(routingState, "stickyWindowMs", 60_000L);
+		routingState.markReplicaReady();
+		dataSource = new ReadWriteRoutingDataSource(routingState);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void readOnlyLookupGoesToReplica() {
+		authenticate("alice");
+
+		assertEquals(ReadWriteRoutingDataSource.REPLICA, dataSource.determineCurrentLookupKey());
+	}
+
+	@Test
+	void recordedWriteRoutesNextReadToPrimary() {
+		authenticate("alice");
+
+		routingState.recordWrite("alice");
+
+		assertTrue(routingState.isStickyForCurrentUser());
+		assertEquals(ReadWriteRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+	}
+
+	@Test
+	void writeByAnotherUserDoesNotPinCurrentUser() {
+		authenticate("alice");
+
+		routingState.recordWrite("bob");
+
+		assertEquals(ReadWriteRoutingDataSource.REPLICA, dataSource.determineCurrentLookupKey());
+	}
+
+	@Test
+	void readWriteLookupAlwaysGoesToPrimary() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+
+		assertEquals(ReadWriteRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+	}
+
+	private void authenticate(String username) {
+		UserApp user = new UserApp(1, username, "hash", Role.USER);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(user, null, List.of()));
+	}
+}
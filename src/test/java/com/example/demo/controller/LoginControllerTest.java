@@ -0,0 +1,60 @@
+package com.example.demo.controller;
+
+import com.example.demo.models.UserApp;
+import com.example.demo.repositories.UserAppRepository;
+import com.example.demo.services.UsernameIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LoginControllerTest {
+
+	private final UserAppRepository userAppRepository = mock(UserAppRepository.class);
+	private final LoginController controller = new LoginController();
+	private PasswordEncoder passwordEncoder;
+
+	@BeforeEach
+	void setUp() {
+		controller.userAppRepository = userAppRepository;
+		controller.usernameIndex = new UsernameIndex(userAppRepository);
+		// Espion sur l'encodeur BCrypt du contrôleur, avec lequel le hash factice a été calculé
+		passwordEncoder = spy((PasswordEncoder) ReflectionTestUtils.getField(controller, "passwordEncoder"));
+		ReflectionTestUtils.setField(controller, "passwordEncoder", passwordEncoder);
+	}
+
+	@Test
+	void unknownUsernameInIndexRunsExactlyOneDummyMatch() {
+		when(userAppRepository.findAllUsernames()).thenReturn(List.of("alice"));
+		controller.usernameIndex.rebuild();
+
+		assertThrows(Exception.class, () -> controller.login(credentials("mallory")));
+
+		verify(passwordEncoder, times(1)).matches(any(), any());
+		verify(userAppRepository, never()).findByUsername(any());
+	}
+
+	@Test
+	void unknownUsernameBeforeIndexLoadRunsExactlyOneDummyMatch() {
+		when(userAppRepository.findByUsername("mallory")).thenReturn(Optional.empty());
+
+		assertThrows(Exception.class, () -> controller.login(credentials("mallory")));
+
+		verify(passwordEncoder, times(1)).matches(any(), any());
+		verify(userAppRepository).findByUsername("mallory");
+	}
+
+	private static UserApp credentials(String username) {
+		UserApp userApp = new UserApp();
+		userApp.setUsername(username);
+		userApp.setPassword("guess");
+		return userApp;
+	}
+}
@@ -0,0 +1,92 @@
+package com.example.demo.controller;
+
+import com.example.demo.models.JobOffer;
+import com.example.demo.models.JobOfferSummary;
+import com.example.demo.models.Role;
+import com.example.demo.models.UserApp;
+import com.example.demo.repositories.JobOfferRepository;
+import com.example.demo.repositories.UserAppRepository;
+import com.example.demo.services.CreatorJobCounts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class UserJobOfferControllerTest {
+
+	private final JobOfferRepository jobOfferRepository = mock(JobOfferRepository.class);
+	private final UserAppRepository userAppRepository = mock(UserAppRepository.class);
+	private final CreatorJobCounts creatorJobCounts = mock(CreatorJobCounts.class);
+	private final UserJobOfferController controller =
+			new UserJobOfferController(jobOfferRepository, userAppRepository, creatorJobCounts);
+
+	private final UserApp alice = new UserApp(7, "alice", "hash", Role.USER);
+
+	@BeforeEach
+	void setUp() {
+		when(userAppRepository.findReadOnlyByUsername("alice")).thenReturn(Optional.of(alice));
+		when(creatorJobCounts.get("alice")).thenReturn(42L);
+	}
+
+	@Test
+	void fullPageReturnsCursorAfterLastId() {
+		when(jobOfferRepository.findActiveByCreator(eq(7), eq(3L), any(), eq(Limit.of(2))))
+				.thenReturn(List.of(offer(5L), offer(8L)));
+
+		Map<String, Object> page = page(controller.listUserJobs("alice", 3L, 2));
+
+		assertEquals(List.of(5L, 8L), ((List<?>) page.get("jobs")).stream()
+				.map(job -> ((JobOfferSummary) job).id())
+				.toList());
+		assertEquals(8L, page.get("nextAfterId"));
+		assertEquals(42L, page.get("total"));
+	}
+
+	@Test
+	void shortPageHasNoCursor() {
+		when(jobOfferRepository.findActiveByCreator(eq(7), eq(8L), any(), eq(Limit.of(2))))
+				.thenReturn(List.of(offer(9L)));
+
+		Map<String, Object> page = page(controller.listUserJobs("alice", 8L, 2));
+
+		assertNull(page.get("nextAfterId"));
+	}
+
+	@Test
+	void pageSizeIsCappedAt100() {
+		controller.listUserJobs("alice", 0L, 10_000);
+
+		verify(jobOfferRepository).findActiveByCreator(eq(7), eq(0L), any(), eq(Limit.of(100)));
+	}
+
+	@Test
+	void unknownUserReturns404() {
+		when(userAppRepository.findReadOnlyByUsername("nobody")).thenReturn(Optional.empty());
+
+		assertEquals(404, controller.listUserJobs("nobody", 0L, 20).getStatusCode().value());
+		verifyNoInteractions(jobOfferRepository);
+	}
+
+	private JobOffer offer(Long id) {
+		JobOffer jobOffer = new JobOffer();
+		jobOffer.setId(id);
+		jobOffer.setTitle("Job " + id);
+		jobOffer.setCreator(alice);
+		return jobOffer;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> page(ResponseEntity<?> response) {
+		assertEquals(200, response.getStatusCode().value());
+		return (Map<String, Object>) response.getBody();
+	}
+}
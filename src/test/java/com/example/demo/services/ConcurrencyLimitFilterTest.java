@@ -0,0 +1,83 @@
+package com.example.demo.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+	private static final int AUTH_LIMIT = 2;
+
+	private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(filter, "enabled", true);
+		ReflectionTestUtils.setField(filter, "initialLimit", AUTH_LIMIT);
+		ReflectionTestUtils.setField(filter, "minLimit", 1);
+		ReflectionTestUtils.setField(filter, "maxLimit", 10);
+		filter.init();
+	}
+
+	@Test
+	void saturatedAuthClassRejectsLoginButStillServesReads() throws Exception {
+		CountDownLatch inFlight = new CountDownLatch(AUTH_LIMIT);
+		CountDownLatch release = new CountDownLatch(1);
+		List<Thread> logins = new ArrayList<>();
+		for (int i = 0; i < AUTH_LIMIT; i++) {
+			Thread login = new Thread(() -> {
+				try {
+					filter.doFilter(request("POST", "/auth/login"), new MockHttpServletResponse(), (req, res) -> {
+						inFlight.countDown();
+						try {
+							release.await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					});
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+			});
+			login.start();
+			logins.add(login);
+		}
+
+		try {
+			assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+
+			MockHttpServletResponse rejected = new MockHttpServletResponse();
+			MockFilterChain loginChain = new MockFilterChain();
+			filter.doFilter(request("POST", "/auth/login"), rejected, loginChain);
+			assertEquals(503, rejected.getStatus());
+			assertEquals("text/plain;charset=UTF-8", rejected.getContentType());
+			assertEquals("1", rejected.getHeader("Retry-After"));
+			assertNull(loginChain.getRequest());
+
+			MockHttpServletResponse read = new MockHttpServletResponse();
+			MockFilterChain readChain = new MockFilterChain();
+			filter.doFilter(request("GET", "/jobs"), read, readChain);
+			assertEquals(200, read.getStatus());
+			assertNotNull(readChain.getRequest());
+		} finally {
+			release.countDown();
+			for (Thread login : logins) {
+				login.join(5_000);
+			}
+		}
+	}
+
+	private static MockHttpServletRequest request(String method, String uri) {
+		return new MockHttpServletRequest(method, uri);
+	}
+}
@@ -0,0 +1,69 @@
+package com.example.demo.services;
+
+import com.example.demo.models.JobOffer;
+import com.example.demo.models.Role;
+import com.example.demo.models.UserApp;
+import com.example.demo.repositories.JobOfferRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CreatorJobCountsTest {
+
+	private final JobOfferRepository jobOfferRepository = mock(JobOfferRepository.class);
+	private final CreatorJobCounts creatorJobCounts = new CreatorJobCounts(jobOfferRepository);
+
+	@Test
+	void createAndDeleteMaintainCounts() {
+		when(jobOfferRepository.countByCreator()).thenReturn(List.<Object[]>of(new Object[]{"alice", 2L}));
+		creatorJobCounts.rebuild();
+
+		creatorJobCounts.onJobOfferChanged(JobOfferChangedEvent.created(offer(10L, "alice")));
+		creatorJobCounts.onJobOfferChanged(JobOfferChangedEvent.created(offer(11L, "bob")));
+		creatorJobCounts.onJobOfferChanged(JobOfferChangedEvent.deleted(10L, "alice"));
+		creatorJobCounts.onJobOfferChanged(JobOfferChangedEvent.deleted(11L, "bob"));
+		creatorJobCounts.onJobOfferChanged(JobOfferChangedEvent.deleted(12L, "bob"));
+		creatorJobCounts.onJobOfferChanged(JobOfferChangedEvent.deleted(13L, null));
+
+		assertEquals(2, creatorJobCounts.get("alice"));
+		assertEquals(0, creatorJobCounts.get("bob"));
+		assertEquals(0, creatorJobCounts.get("carol"));
+	}
+
+	@Test
+	void rebuildKeepsChangesCommittedWhileCounting() {
+		when(jobOfferRepository.countByCreator()).thenAnswer(invocation -> {
+			// Validées pendant la requête, après la lecture des lignes
+			creatorJobCounts.onJobOfferChanged(JobOfferChangedEvent.created(offer(20L, "alice")));
+			creatorJobCounts.onJobOfferChanged(JobOfferChangedEvent.deleted(21L, "bob"));
+			return List.<Object[]>of(new Object[]{"alice", 2L}, new Object[]{"bob", 3L});
+		});
+
+		creatorJobCounts.rebuild();
+
+		assertEquals(3, creatorJobCounts.get("alice"));
+		assertEquals(2, creatorJobCounts.get("bob"));
+	}
+
+	@Test
+	void rebuildReplacesStaleCounts() {
+		creatorJobCounts.increment("alice");
+		when(jobOfferRepository.countByCreator()).thenReturn(List.<Object[]>of(new Object[]{"bob", 1L}));
+
+		creatorJobCounts.rebuild();
+
+		assertEquals(0, creatorJobCounts.get("alice"));
+		assertEquals(1, creatorJobCounts.get("bob"));
+	}
+
+	private static JobOffer offer(Long id, String creatorUsername) {
+		JobOffer jobOffer = new JobOffer();
+		jobOffer.setId(id);
+		jobOffer.setCreator(new UserApp(1, creatorUsername, "hash", Role.USER));
+		return jobOffer;
+	}
+}
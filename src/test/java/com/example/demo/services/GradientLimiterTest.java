@@ -0,0 +1,47 @@
+package com.example.demo.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradientLimiterTest {
+
+	@Test
+	void rejectsRequestsBeyondLimit() {
+		GradientLimiter limiter = new GradientLimiter(2, 1, 10);
+
+		assertTrue(limiter.tryAcquire());
+		assertTrue(limiter.tryAcquire());
+		assertFalse(limiter.tryAcquire());
+		assertEquals(1, limiter.getRejected());
+
+		limiter.release(TimeUnit.MILLISECONDS.toNanos(1));
+		assertTrue(limiter.tryAcquire());
+	}
+
+	@Test
+	void shrinksLimitWhenLatencyDegrades() {
+		GradientLimiter limiter = new GradientLimiter(20, 4, 100);
+		runRounds(limiter, 10, TimeUnit.MILLISECONDS.toNanos(10));
+		int steadyLimit = limiter.getLimit();
+
+		runRounds(limiter, 10, TimeUnit.MILLISECONDS.toNanos(200));
+
+		assertTrue(limiter.getLimit() < steadyLimit);
+		assertTrue(limiter.getLimit() >= 4);
+	}
+
+	private void runRounds(GradientLimiter limiter, int rounds, long rttNanos) {
+		for (int i = 0; i < rounds; i++) {
+			int acquired = 0;
+			while (limiter.tryAcquire()) {
+				acquired++;
+			}
+			for (int j = 0; j < acquired; j++) {
+				limiter.release(rttNanos);
+			}
+		}
+	}
+}
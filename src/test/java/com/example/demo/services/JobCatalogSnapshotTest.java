@@ -0,0 +1,249 @@
+package com.example.demo.services;
+
+import com.example.demo.models.JobOffer;
+import com.example.demo.models.JobOfferSummary;
+import com.example.demo.repositories.JobOfferRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JobCatalogSnapshotTest {
+
+	@TempDir
+	Path dir;
+
+	private final List<JobOffer> database = new ArrayList<>();
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+	private JobOfferRepository jobOfferRepository;
+
+	@BeforeEach
+	void setUp() {
+		jobOfferRepository = mock(JobOfferRepository.class);
+		when(jobOfferRepository.findMaxId()).thenAnswer(invocation ->
+				database.stream().map(JobOffer::getId).max(Long::compare).orElse(null));
+		when(jobOfferRepository.findActivePage(any(), any(), any())).thenAnswer(invocation -> {
+			Long afterId = invocation.getArgument(0);
+			Instant now = invocation.getArgument(1);
+			Limit limit = invocation.getArgument(2);
+			return database.stream()
+					.filter(job -> job.getId() > afterId)
+					.filter(job -> job.getExpiresAt() == null || job.getExpiresAt().isAfter(now))
+					.sorted(Comparator.comparing(JobOffer::getId))
+					.limit(limit.max())
+					.toList();
+		});
+	}
+
+	@Test
+	void overlaysUpsertsDeletesAndExpiry() throws Exception {
+		addToDatabase(1, 2, 3);
+		JobCatalogSnapshot snapshot = open();
+
+		snapshot.recordUpsert(summary(4, null));
+		snapshot.recordUpsert(summary(5, Instant.now().minusSeconds(60)));
+		snapshot.recordDelete(2L);
+		snapshot.recordUpsert(new JobOfferSummary(3L, "Updated", null, null, null));
+
+		JsonNode page = page(snapshot, 0, 10);
+		assertEquals(List.of(1L, 3L, 4L), ids(page));
+		assertEquals("Updated", page.get("jobs").get(1).get("title").asText());
+		assertTrue(page.get("nextAfterId").isNull());
+		snapshot.close();
+	}
+
+	@Test
+	void cursorCrossesSnapshotAndDeltaBoundary() throws Exception {
+		addToDatabase(1, 2, 3);
+		JobCatalogSnapshot snapshot = open();
+		snapshot.recordUpsert(summary(4, null));
+		snapshot.recordUpsert(summary(5, null));
+
+		JsonNode first = page(snapshot, 0, 2);
+		assertEquals(List.of(1L, 2L), ids(first));
+		assertEquals(2, first.get("nextAfterId").asLong());
+
+		JsonNode second = page(snapshot, 2, 2);
+		assertEquals(List.of(3L, 4L), ids(second));
+		assertEquals(4, second.get("nextAfterId").asLong());
+
+		JsonNode last = page(snapshot, 4, 2);
+		assertEquals(List.of(5L), ids(last));
+		assertTrue(last.get("nextAfterId").isNull());
+		snapshot.close();
+	}
+
+	@Test
+	void truncatedDeltaLogTriggersRebuild() throws Exception {
+		addToDatabase(1);
+		JobCatalogSnapshot snapshot = open();
+		addToDatabase(2, 3);
+		snapshot.recordUpsert(summary(2, null));
+		snapshot.recordUpsert(summary(3, null));
+		snapshot.close();
+
+		Path deltaLog = dir.resolve("catalog.snapshot.delta");
+		try (FileChannel channel = FileChannel.open(deltaLog, StandardOpenOption.WRITE)) {
+			channel.truncate(channel.size() - 5);
+		}
+
+		// L'offre 3 manque au journal : l'instantané est reconstruit depuis la base
+		JobCatalogSnapshot restarted = open();
+		assertEquals(List.of(1L, 2L, 3L), ids(page(restarted, 0, 10)));
+
+		addToDatabase(4);
+		restarted.recordUpsert(summary(4, null));
+		restarted.close();
+		JobCatalogSnapshot reopened = open();
+		assertEquals(List.of(1L, 2L, 3L, 4L), ids(page(reopened, 0, 10)));
+		reopened.close();
+	}
+
+	@Test
+	void rebuildsWhenSnapshotIsBehindDatabase() throws Exception {
+		addToDatabase(1, 2);
+		open().close();
+
+		// Offre validée sans que l'événement n'atteigne le journal
+		addToDatabase(3);
+
+		JobCatalogSnapshot restarted = open();
+		assertEquals(List.of(1L, 2L, 3L), ids(page(restarted, 0, 10)));
+		restarted.close();
+	}
+
+	@Test
+	void appliesWritesRecordedBeforeLoad() throws Exception {
+		addToDatabase(1, 2);
+		open().close();
+
+		JobCatalogSnapshot restarted = create();
+		restarted.recordUpsert(new JobOfferSummary(2L, "Renamed", null, null, null));
+		restarted.load();
+
+		JsonNode page = page(restarted, 0, 10);
+		assertEquals(List.of(1L, 2L), ids(page));
+		assertEquals("Renamed", page.get("jobs").get(1).get("title").asText());
+		restarted.close();
+
+		// L'écriture a aussi été journalisée
+		JobCatalogSnapshot reopened = open();
+		assertEquals("Renamed", page(reopened, 0, 10).get("jobs").get(1).get("title").asText());
+		reopened.close();
+	}
+
+	@Test
+	void rebuildsWhenDeltaLogIsAheadOfDatabase() throws Exception {
+		addToDatabase(1, 2);
+		JobCatalogSnapshot snapshot = open();
+		addToDatabase(3);
+		snapshot.recordUpsert(summary(3, null));
+		snapshot.close();
+
+		// Base réinitialisée : l'instantané (id 2) est cohérent, mais pas le journal (id 3)
+		database.clear();
+		addToDatabase(1, 2);
+		database.get(0).setTitle("Fresh");
+
+		JobCatalogSnapshot restarted = open();
+		JsonNode page = page(restarted, 0, 10);
+		assertEquals(List.of(1L, 2L), ids(page));
+		assertEquals("Fresh", page.get("jobs").get(0).get("title").asText());
+		assertEquals(0, Files.size(dir.resolve("catalog.snapshot.delta")));
+		restarted.close();
+	}
+
+	@Test
+	void refreshKeepsOnlyLatestSnapshotFile() throws Exception {
+		addToDatabase(1, 2);
+		JobCatalogSnapshot snapshot = open();
+		addToDatabase(3);
+		snapshot.recordUpsert(summary(3, null));
+
+		snapshot.refresh();
+
+		assertEquals(List.of(1L, 2L, 3L), ids(page(snapshot, 0, 10)));
+		try (Stream<Path> files = Files.list(dir)) {
+			assertEquals(List.of("catalog.snapshot.2"), files.map(file -> file.getFileName().toString())
+					.filter(name -> !name.endsWith(".delta"))
+					.toList());
+		}
+		snapshot.close();
+	}
+
+	@Test
+	void loadRemovesFilesLeftByInterruptedRefresh() throws Exception {
+		addToDatabase(1);
+		open().close();
+		Files.write(dir.resolve("catalog.snapshot.2.tmp"), new byte[16]);
+		Files.write(dir.resolve("catalog.snapshot.2.tmp.table"), new byte[16]);
+
+		JobCatalogSnapshot restarted = open();
+
+		try (Stream<Path> files = Files.list(dir)) {
+			assertEquals(List.of("catalog.snapshot.1", "catalog.snapshot.delta"), files
+					.map(file -> file.getFileName().toString())
+					.sorted()
+					.toList());
+		}
+		restarted.close();
+	}
+
+	private JobCatalogSnapshot open() throws Exception {
+		JobCatalogSnapshot snapshot = create();
+		snapshot.load();
+		return snapshot;
+	}
+
+	private JobCatalogSnapshot create() {
+		JobCatalogSnapshot snapshot = new JobCatalogSnapshot(jobOfferRepository, objectMapper);
+		ReflectionTestUtils.setField(snapshot, "enabled", true);
+		ReflectionTestUtils.setField(snapshot, "snapshotPath", dir.resolve("catalog.snapshot").toString());
+		return snapshot;
+	}
+
+	private void addToDatabase(long... ids) {
+		for (long id : ids) {
+			JobOffer jobOffer = new JobOffer();
+			jobOffer.setId(id);
+			jobOffer.setTitle("Job " + id);
+			database.add(jobOffer);
+		}
+	}
+
+	private static JobOfferSummary summary(long id, Instant expiresAt) {
+		return new JobOfferSummary(id, "Job " + id, null, null, expiresAt);
+	}
+
+	private JsonNode page(JobCatalogSnapshot snapshot, long afterId, int size) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		snapshot.writePage(afterId, size, out);
+		return objectMapper.readTree(out.toByteArray());
+	}
+
+	private static List<Long> ids(JsonNode page) {
+		List<Long> ids = new ArrayList<>();
+		page.get("jobs").forEach(job -> ids.add(job.get("id").asLong()));
+		return ids;
+	}
+}
@@ -0,0 +1,92 @@
+package com.example.demo.services;
+
+import com.example.demo.repositories.JobOfferRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JobOfferExpirySweeperTest {
+
+	private final JobOfferRepository jobOfferRepository = mock(JobOfferRepository.class);
+	private final JobOfferService jobOfferService = mock(JobOfferService.class);
+	private final JobOfferExpirySweeper sweeper = new JobOfferExpirySweeper(jobOfferRepository, jobOfferService);
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(sweeper, "batchSize", 3);
+		ReflectionTestUtils.setField(sweeper, "batchPauseMs", 0L);
+		ReflectionTestUtils.setField(sweeper, "maxBatchesPerRun", 5);
+		when(jobOfferService.deleteAll(anyMap())).thenReturn(true);
+	}
+
+	@Test
+	void readsBatchesOfConfiguredSizeUntilShortBatch() throws Exception {
+		when(jobOfferRepository.findExpired(any(), any()))
+				.thenReturn(rows(1, 2, 3))
+				.thenReturn(rows(4));
+
+		sweeper.sweep();
+
+		verify(jobOfferRepository, times(2)).findExpired(any(), eq(Limit.of(3)));
+		verify(jobOfferService, times(2)).deleteAll(anyMap());
+		assertEquals(4L, sweeper.getStats().get("swept"));
+		assertEquals(2L, sweeper.getStats().get("batches"));
+	}
+
+	@Test
+	void stopsAtMaxBatchesPerRun() throws Exception {
+		ReflectionTestUtils.setField(sweeper, "maxBatchesPerRun", 2);
+		when(jobOfferRepository.findExpired(any(), any())).thenAnswer(invocation -> rows(1, 2, 3));
+
+		sweeper.sweep();
+
+		verify(jobOfferRepository, times(2)).findExpired(any(), any());
+		assertEquals(6L, sweeper.getStats().get("swept"));
+	}
+
+	@Test
+	void deletesOfferWithoutCreator() throws Exception {
+		List<Object[]> rows = new ArrayList<>();
+		rows.add(new Object[]{5L, null});
+		when(jobOfferRepository.findExpired(any(), any())).thenReturn(rows);
+
+		sweeper.sweep();
+
+		Map<Long, String> expected = new HashMap<>();
+		expected.put(5L, null);
+		verify(jobOfferService).deleteAll(expected);
+		assertEquals(1L, sweeper.getStats().get("swept"));
+	}
+
+	@Test
+	void fallsBackToPerOfferDeleteWhenBatchIsRolledBack() throws Exception {
+		when(jobOfferRepository.findExpired(any(), any())).thenReturn(rows(1, 2));
+		when(jobOfferService.deleteAll(anyMap())).thenReturn(false);
+		when(jobOfferService.delete(1L, "user1")).thenReturn(true);
+		when(jobOfferService.delete(2L, "user2")).thenReturn(false);
+
+		sweeper.sweep();
+
+		verify(jobOfferService).delete(1L, "user1");
+		verify(jobOfferService).delete(2L, "user2");
+		assertEquals(1L, sweeper.getStats().get("swept"));
+	}
+
+	private static List<Object[]> rows(long... ids) {
+		List<Object[]> rows = new ArrayList<>();
+		for (long id : ids) {
+			rows.add(new Object[]{id, "user" + id});
+		}
+		return rows;
+	}
+}
@@ -0,0 +1,77 @@
+package com.example.demo.services;
+
+import com.example.demo.models.JobOffer;
+import com.example.demo.models.JobOfferSummary;
+import com.example.demo.models.Role;
+import com.example.demo.models.UserApp;
+import com.example.demo.repositories.JobOfferRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JobOfferServiceTest {
+
+	private final JobOfferRepository jobOfferRepository = mock(JobOfferRepository.class);
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+	private final JobOfferService jobOfferService = new JobOfferService(jobOfferRepository, eventPublisher);
+
+	@Test
+	void createPublishesCreatedEvent() {
+		JobOffer jobOffer = new JobOffer();
+		jobOffer.setTitle("Dev");
+		jobOffer.setCreator(new UserApp(1, "alice", "hash", Role.USER));
+		when(jobOfferRepository.save(jobOffer)).thenAnswer(invocation -> {
+			jobOffer.setId(42L);
+			return jobOffer;
+		});
+
+		jobOfferService.create(jobOffer);
+
+		verify(eventPublisher).publishEvent(new JobOfferChangedEvent(JobOfferChangedEvent.Type.CREATED, 42L, "alice",
+				new JobOfferSummary(42L, "Dev", null, "alice", null)));
+	}
+
+	@Test
+	void findActiveReturnsSummariesWithoutCreatorEntity() {
+		JobOffer jobOffer = new JobOffer();
+		jobOffer.setId(7L);
+		jobOffer.setTitle("Dev");
+		jobOffer.setCreator(new UserApp(1, "alice", "$2a$10$hash", Role.USER));
+		when(jobOfferRepository.findActive(any())).thenReturn(List.of(jobOffer));
+
+		assertEquals(List.of(new JobOfferSummary(7L, "Dev", null, "alice", null)), jobOfferService.findActive());
+	}
+
+	@Test
+	void deletePublishesEventOnlyWhenRowWasDeleted() {
+		when(jobOfferRepository.deleteAndCount(1L)).thenReturn(1);
+		when(jobOfferRepository.deleteAndCount(2L)).thenReturn(0);
+
+		assertTrue(jobOfferService.delete(1L, "alice"));
+		assertFalse(jobOfferService.delete(2L, "alice"));
+
+		verify(eventPublisher).publishEvent(JobOfferChangedEvent.deleted(1L, "alice"));
+		verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+	}
+
+	@Test
+	void deleteAllPublishesOneEventPerOffer() {
+		Map<Long, String> creatorsById = new LinkedHashMap<>();
+		creatorsById.put(1L, "alice");
+		creatorsById.put(2L, null);
+		when(jobOfferRepository.deleteAllAndCount(creatorsById.keySet())).thenReturn(2);
+
+		assertTrue(jobOfferService.deleteAll(creatorsById));
+
+		verify(jobOfferRepository, never()).deleteAndCount(any());
+		verify(eventPublisher).publishEvent(JobOfferChangedEvent.deleted(1L, "alice"));
+		verify(eventPublisher).publishEvent(JobOfferChangedEvent.deleted(2L, null));
+	}
+}
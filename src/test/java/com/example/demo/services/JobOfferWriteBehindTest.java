@@ -0,0 +1,150 @@
+package com.example.demo.services;
+
+import com.example.demo.models.JobOffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JobOfferWriteBehindTest {
+
+	private final JobOfferService jobOfferService = mock(JobOfferService.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final AtomicLong nextId = new AtomicLong();
+	private JobOfferWriteBehind writeBehind;
+
+	@AfterEach
+	void tearDown() throws Exception {
+		if (writeBehind != null) {
+			writeBehind.stop();
+		}
+	}
+
+	@Test
+	void fullQueueRejectsOffer() throws Exception {
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(jobOfferService.create(any())).thenAnswer(invocation -> {
+			entered.countDown();
+			release.await();
+			return persist(invocation.getArgument(0));
+		});
+		start(1, 1, 10);
+
+		String first = writeBehind.enqueue(offer("first")).orElseThrow();
+		assertTrue(entered.await(5, TimeUnit.SECONDS));
+		String queued = writeBehind.enqueue(offer("queued")).orElseThrow();
+
+		assertEquals(Optional.empty(), writeBehind.enqueue(offer("rejected")));
+
+		release.countDown();
+		awaitStatus(first, JobOfferWriteBehind.Status.PERSISTED);
+		awaitStatus(queued, JobOfferWriteBehind.Status.PERSISTED);
+	}
+
+	@Test
+	void batchClosesWhenFullBeforeWindowEnds() throws Exception {
+		when(jobOfferService.create(any())).thenAnswer(invocation -> persist(invocation.getArgument(0)));
+		start(10, 3, 60_000);
+
+		String a = writeBehind.enqueue(offer("a")).orElseThrow();
+		String b = writeBehind.enqueue(offer("b")).orElseThrow();
+		String c = writeBehind.enqueue(offer("c")).orElseThrow();
+
+		awaitStatus(a, JobOfferWriteBehind.Status.PERSISTED);
+		awaitStatus(b, JobOfferWriteBehind.Status.PERSISTED);
+		awaitStatus(c, JobOfferWriteBehind.Status.PERSISTED);
+		assertEquals(1L, writeBehind.getStats().get("batches"));
+		verify(transactionManager, times(1)).commit(any());
+	}
+
+	@Test
+	void batchClosesWhenWindowEnds() throws Exception {
+		when(jobOfferService.create(any())).thenAnswer(invocation -> persist(invocation.getArgument(0)));
+		start(10, 50, 100);
+
+		String a = writeBehind.enqueue(offer("a")).orElseThrow();
+		String b = writeBehind.enqueue(offer("b")).orElseThrow();
+
+		awaitStatus(a, JobOfferWriteBehind.Status.PERSISTED);
+		awaitStatus(b, JobOfferWriteBehind.Status.PERSISTED);
+		assertEquals(1L, writeBehind.getStats().get("batches"));
+		assertEquals(2.0, writeBehind.getStats().get("avgBatchSize"));
+	}
+
+	@Test
+	void failingBatchIsRetriedPerOfferToIsolateTheBadOne() throws Exception {
+		when(jobOfferService.create(any())).thenAnswer(invocation -> {
+			JobOffer jobOffer = invocation.getArgument(0);
+			if ("bad".equals(jobOffer.getTitle())) {
+				throw new IllegalStateException("constraint violation");
+			}
+			return persist(jobOffer);
+		});
+		start(10, 3, 60_000);
+
+		String good = writeBehind.enqueue(offer("good")).orElseThrow();
+		String bad = writeBehind.enqueue(offer("bad")).orElseThrow();
+		String other = writeBehind.enqueue(offer("other")).orElseThrow();
+
+		awaitStatus(good, JobOfferWriteBehind.Status.PERSISTED);
+		awaitStatus(bad, JobOfferWriteBehind.Status.FAILED);
+		awaitStatus(other, JobOfferWriteBehind.Status.PERSISTED);
+		assertNotNull(writeBehind.getAck(good).orElseThrow().jobId());
+		assertNull(writeBehind.getAck(bad).orElseThrow().jobId());
+		assertEquals(2L, writeBehind.getStats().get("committed"));
+	}
+
+	@Test
+	void enqueueAfterStopIsRejected() throws Exception {
+		start(10, 3, 10);
+
+		writeBehind.stop();
+
+		assertEquals(Optional.empty(), writeBehind.enqueue(offer("late")));
+		verifyNoInteractions(jobOfferService);
+	}
+
+	private void start(int queueCapacity, int batchSize, long windowMs) {
+		writeBehind = new JobOfferWriteBehind(jobOfferService, new TransactionTemplate(transactionManager));
+		ReflectionTestUtils.setField(writeBehind, "enabled", true);
+		ReflectionTestUtils.setField(writeBehind, "queueCapacity", queueCapacity);
+		ReflectionTestUtils.setField(writeBehind, "batchSize", batchSize);
+		ReflectionTestUtils.setField(writeBehind, "windowMs", windowMs);
+		writeBehind.start();
+	}
+
+	private JobOffer persist(JobOffer jobOffer) {
+		jobOffer.setId(nextId.incrementAndGet());
+		return jobOffer;
+	}
+
+	private static JobOffer offer(String title) {
+		JobOffer jobOffer = new JobOffer();
+		jobOffer.setTitle(title);
+		return jobOffer;
+	}
+
+	private void awaitStatus(String trackingId, JobOfferWriteBehind.Status status) throws InterruptedException {
+		await(() -> writeBehind.getAck(trackingId).map(ack -> ack.status() == status).orElse(false));
+		assertEquals(status, writeBehind.getAck(trackingId).orElseThrow().status());
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+}
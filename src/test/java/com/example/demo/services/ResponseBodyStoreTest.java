@@ -0,0 +1,35 @@
+package com.example.demo.services;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseBodyStoreTest {
+
+	@Test
+	void prefersGzipWhenAccepted() {
+		assertEquals("gzip", ResponseBodyStore.negotiateEncoding("gzip, deflate, br"));
+		assertEquals("deflate", ResponseBodyStore.negotiateEncoding("deflate"));
+	}
+
+	@Test
+	void honoursQualityValues() {
+		assertEquals("deflate", ResponseBodyStore.negotiateEncoding("gzip;q=0.5, deflate;q=0.8"));
+		assertEquals("deflate", ResponseBodyStore.negotiateEncoding("gzip;q=0, deflate"));
+		assertNull(ResponseBodyStore.negotiateEncoding("gzip;q=0, deflate;q=0"));
+		assertNull(ResponseBodyStore.negotiateEncoding("identity;q=1, gzip;q=0.5"));
+	}
+
+	@Test
+	void appliesWildcardToUnlistedEncodings() {
+		assertEquals("gzip", ResponseBodyStore.negotiateEncoding("*"));
+		assertEquals("deflate", ResponseBodyStore.negotiateEncoding("*;q=0, deflate"));
+		assertNull(ResponseBodyStore.negotiateEncoding("*;q=0"));
+	}
+
+	@Test
+	void sendsIdentityWithoutHeader() {
+		assertNull(ResponseBodyStore.negotiateEncoding(null));
+		assertNull(ResponseBodyStore.negotiateEncoding("br"));
+	}
+}
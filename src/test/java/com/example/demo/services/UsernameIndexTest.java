@@ -0,0 +1,51 @@
+package com.example.demo.services;
+
+import com.example.demo.models.Role;
+import com.example.demo.models.UserApp;
+import com.example.demo.repositories.UserAppRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UsernameIndexTest {
+
+	private final UserAppRepository userRepository = mock(UserAppRepository.class);
+	private final UsernameIndex usernameIndex = new UsernameIndex(userRepository);
+
+	@Test
+	void everyUsernameMightExistUntilLoaded() {
+		assertTrue(usernameIndex.mightExist("alice"));
+		assertTrue(usernameIndex.mightExist("nobody"));
+		assertFalse(usernameIndex.mightExist(null));
+	}
+
+	@Test
+	void loadedIndexRejectsUnknownUsernames() {
+		when(userRepository.findAllUsernames()).thenReturn(List.of("alice"));
+
+		usernameIndex.rebuild();
+
+		assertTrue(usernameIndex.mightExist("alice"));
+		assertFalse(usernameIndex.mightExist("nobody"));
+	}
+
+	@Test
+	void registrationAddsUsernameToIndex() {
+		when(userRepository.findAllUsernames()).thenReturn(List.of());
+		when(userRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		usernameIndex.rebuild();
+		UserAppService userAppService = new UserAppService(userRepository, mock(PasswordEncoder.class), usernameIndex);
+		assertFalse(usernameIndex.mightExist("bob"));
+
+		UserApp saved = userAppService.registerUser("bob", "secret", Role.USER);
+
+		assertEquals("bob", saved.getUsername());
+		assertTrue(usernameIndex.mightExist("bob"));
+	}
+}